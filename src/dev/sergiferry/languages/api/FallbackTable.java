@@ -0,0 +1,125 @@
+package dev.sergiferry.languages.api;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Precomputed fallback resolution of a plugin. For each translation (by slot) and requested language (by index) it keeps
+ * the language whose value is used, so the fallback chain (exact, similar, server and default language) is walked once per
+ * pair instead of on every lookup. Rows are filled lazily, a row is dropped when its translation gains or loses a language,
+ * and the whole table is dropped when a fallback setting changes.
+ */
+class FallbackTable {
+
+    private static final int UNRESOLVED = 0;
+    private static final int NO_LANGUAGE = -1;
+
+    private final LanguagesAPI.PluginManager pluginManager;
+    private volatile int[][] rows;
+
+    protected FallbackTable(@Nonnull LanguagesAPI.PluginManager pluginManager){
+        this.pluginManager = pluginManager;
+        this.rows = new int[16][];
+    }
+
+    /**
+     * @param translation Translation
+     * @param language Requested language, or {@code null}
+     * @return the language whose value must be used, or {@code null} if there is none
+     */
+    @Nullable
+    protected Language resolve(@Nonnull Translation<?> translation, @Nullable Language language){
+        int column = language == null ? 0 : language.getIndex() + 1;
+        int slot = translation.getSlot();
+        int[][] rows = this.rows;
+        int[] row = slot < rows.length ? rows[slot] : null;
+        if(row != null && column < row.length){
+            int cell = row[column];
+            if(cell != UNRESOLVED) return cell == NO_LANGUAGE ? null : Language.getByIndex(cell - 1);
+        }
+        return compute(translation, language, column);
+    }
+
+    private synchronized Language compute(Translation<?> translation, Language language, int column){
+        int slot = translation.getSlot();
+        if(slot >= rows.length) rows = Arrays.copyOf(rows, Math.max(slot + 1, rows.length * 2));
+        int[] row = rows[slot];
+        if(row == null || column >= row.length){
+            int[] created = new int[Math.max(column, Language.getIndexedCount()) + 1];
+            if(row != null) System.arraycopy(row, 0, created, 0, row.length);
+            row = created;
+            rows[slot] = row;
+        }
+        Language resolved = find(translation, language);
+        row[column] = resolved == null ? NO_LANGUAGE : resolved.getIndex() + 1;
+        return resolved;
+    }
+
+    private Language find(Translation<?> translation, Language language){
+        Language serverLanguage = LanguagesAPI.getServerLanguage();
+        Language defaultLanguage = pluginManager.getDefaultLanguage();
+        if(language == null){
+            if(pluginManager.isFallbackToDefaultLanguage()) return find(translation, defaultLanguage);
+            if(translation.isTranslatedIn(serverLanguage)) return serverLanguage;
+            return null;
+        }
+        if(translation.isTranslatedIn(language)) return language;
+        if(pluginManager.isFallbackToSimilarLanguage()){
+            for(Language similar : language.getSimilarLanguages()) if(!similar.equals(language) && translation.isTranslatedIn(similar)) return similar;
+        }
+        if(pluginManager.isFallbackToServerLanguage() && !language.equals(serverLanguage) && translation.isTranslatedIn(serverLanguage)) return serverLanguage;
+        if(pluginManager.isFallbackToDefaultLanguage() && !language.equals(defaultLanguage)) return find(translation, defaultLanguage);
+        return null;
+    }
+
+    /**
+     * Gets the languages the fallback chain tries for that requested language, in order. The first one a translation is
+     * translated in is the one {@link #resolve(Translation, Language)} returns, so many translations can be resolved
+     * walking the chain once.
+     *
+     * @param language Requested language, or {@code null}
+     * @return languages to try, without duplicates
+     */
+    @Nonnull
+    protected List<Language> getChain(@Nullable Language language){
+        List<Language> chain = new ArrayList<>(4);
+        addChain(chain, language);
+        return chain;
+    }
+
+    private void addChain(List<Language> chain, Language language){
+        Language serverLanguage = LanguagesAPI.getServerLanguage();
+        Language defaultLanguage = pluginManager.getDefaultLanguage();
+        if(language == null){
+            if(pluginManager.isFallbackToDefaultLanguage()) addChain(chain, defaultLanguage);
+            else if(!chain.contains(serverLanguage)) chain.add(serverLanguage);
+            return;
+        }
+        if(!chain.contains(language)) chain.add(language);
+        if(pluginManager.isFallbackToSimilarLanguage()){
+            for(Language similar : language.getSimilarLanguages()) if(!chain.contains(similar)) chain.add(similar);
+        }
+        if(pluginManager.isFallbackToServerLanguage() && !chain.contains(serverLanguage)) chain.add(serverLanguage);
+        if(pluginManager.isFallbackToDefaultLanguage() && !language.equals(defaultLanguage)) addChain(chain, defaultLanguage);
+    }
+
+    /**
+     * Drops the resolution of that translation, needed when it gains or loses a language.
+     *
+     * @param translation Translation
+     */
+    protected synchronized void invalidate(@Nonnull Translation<?> translation){
+        int slot = translation.getSlot();
+        if(slot < rows.length) rows[slot] = null;
+    }
+
+    /**
+     * Drops the resolution of every translation, needed when a fallback setting changes.
+     */
+    protected synchronized void invalidateAll(){ rows = new int[rows.length][]; }
+}
@@ -22,11 +22,19 @@ public class Language {
 
     private static final List<Language> ALL = new ArrayList<>();
     private static final Map<String, Language> MAP = new HashMap<>();
+    private static final List<Language> INDEXED = new ArrayList<>();
 
     @Nonnull public static List<Language> getAllLanguages() { return ALL; }
     @Nonnull public static List<Language> getLanguages(Predicate<Language> filter) { return ALL.stream().filter(filter).toList(); }
     @Nonnull public static List<Language> getLanguages(Country country) { return getLanguages(x-> x.getCountry().isPresent() && x.getCountry().get().equals(country) || x.getAdditionalCountries().stream().filter(y-> y.equals(country)).findAny().isPresent()); }
 
+    /**
+     * @param index Dense index of a registered language, see {@link #getIndex()}
+     * @return the language with that index
+     */
+    @Nonnull public static Language getByIndex(int index) { return INDEXED.get(index); }
+    public static int getIndexedCount() { return INDEXED.size(); }
+
     @Nonnull public static Set<String> getKeys() { return MAP.keySet(); }
     @Nonnull public static Set<Map.Entry<String, Language>> getEntrySet() { return MAP.entrySet(); }
 
@@ -202,6 +210,8 @@ public class Language {
     @Nullable private final List<Country> additionalCountries;
     @Nullable private List<Language> similarLanguages;
     @Nullable private String minecraftFileName;
+    @Nullable private Locale locale;
+    private final int index;
 
     private Language(@Nonnull String[] localeCode, @Nonnull String name, @Nonnull String englishName, @Nullable Country country, @Nullable Country... additionalCountries){
         for (String s : localeCode) { Validate.isTrue(!MAP.containsKey(s.toLowerCase()), "This locale code is already registered. " + localeCode); }
@@ -211,6 +221,8 @@ public class Language {
         this.localeCode = Arrays.stream(localeCode).toList();
         this.name = name;
         this.englishName = englishName;
+        this.index = INDEXED.size();
+        INDEXED.add(this);
         this.country = country;
         if(additionalCountries == null) this.additionalCountries = new ArrayList<>();
         else this.additionalCountries = Arrays.stream(additionalCountries).toList();
@@ -256,8 +268,36 @@ public class Language {
 
     public List<String> getLocaleCodes() { return localeCode; }
 
+    /**
+     * Stable dense index of this language, given in registration order to every language (also the ones without
+     * Minecraft translations file), so it can be used to index arrays.
+     *
+     * @return index of this language
+     */
+    public int getIndex() { return index; }
+
     @Nonnull public String getLocaleCode() { return localeCode.stream().findFirst().orElseThrow(); }
 
+    /**
+     * Gets the Java locale of this language, from its locale code. Regions that are not valid (like in {@code en_7S})
+     * are ignored, so the locale keeps at least the language.
+     *
+     * @return locale of this language
+     */
+    @Nonnull
+    public Locale getLocale(){
+        if(locale != null) return locale;
+        String[] code = getLocaleCode().split("_");
+        Locale.Builder builder = new Locale.Builder();
+        try { builder.setLanguage(code[0]); }
+        catch (IllformedLocaleException e) { return locale = Locale.ROOT; }
+        if(code.length > 1){
+            try { builder.setRegion(code[1]); }
+            catch (IllformedLocaleException e) { builder.setRegion(null); }
+        }
+        return locale = builder.build();
+    }
+
     @Nonnull public String getName() { return name; }
 
     @Nonnull
@@ -312,6 +352,7 @@ public class Language {
         if(similarLanguages == null) loadSimilarLanguages();
         if(similarLanguages.contains(language)) return;
         similarLanguages.add(language);
+        LanguagesAPI.invalidateFallbacks();
     }
 
     public void addSimilarLanguages(@Nonnull Language... languages){
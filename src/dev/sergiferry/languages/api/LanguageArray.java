@@ -0,0 +1,100 @@
+package dev.sergiferry.languages.api;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Immutable sparse array indexed by {@link Language#getIndex()}. A bitmap marks the languages that have a value, and the
+ * values are packed in index order, so a lookup is a bitmap test plus a bit count and it only takes memory for the
+ * languages that are present. Modifications return a new array, so it can be published through a volatile field.
+ */
+final class LanguageArray<V> {
+
+    private static final LanguageArray EMPTY = new LanguageArray<>(new long[0], new Object[0]);
+
+    private final long[] bits;
+    private final Object[] values;
+
+    private LanguageArray(long[] bits, Object[] values){
+        this.bits = bits;
+        this.values = values;
+    }
+
+    @Nonnull
+    static <V> LanguageArray<V> empty(){ return (LanguageArray<V>) EMPTY; }
+
+    private int rank(int index){
+        int word = index >>> 6;
+        int rank = 0;
+        for(int i = 0; i < word; i++) rank += Long.bitCount(bits[i]);
+        return rank + Long.bitCount(bits[word] & ((1L << index) - 1));
+    }
+
+    boolean contains(@Nonnull Language language){
+        int index = language.getIndex();
+        int word = index >>> 6;
+        return word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+
+    @Nullable
+    V get(@Nonnull Language language){
+        if(!contains(language)) return null;
+        return (V) values[rank(language.getIndex())];
+    }
+
+    /**
+     * @return a copy of this array with that value set for that language
+     */
+    @Nonnull
+    LanguageArray<V> with(@Nonnull Language language, @Nonnull V value){
+        int index = language.getIndex();
+        int word = index >>> 6;
+        if(contains(language)){
+            Object[] copy = values.clone();
+            copy[rank(index)] = value;
+            return new LanguageArray<>(bits, copy);
+        }
+        long[] newBits = Arrays.copyOf(bits, Math.max(bits.length, word + 1));
+        newBits[word] |= 1L << index;
+        int position = word < bits.length ? rank(index) : values.length;
+        Object[] newValues = new Object[values.length + 1];
+        System.arraycopy(values, 0, newValues, 0, position);
+        newValues[position] = value;
+        System.arraycopy(values, position, newValues, position + 1, values.length - position);
+        return new LanguageArray<>(newBits, newValues);
+    }
+
+    /**
+     * @return a copy of this array with every value replaced by the result of that function
+     */
+    @Nonnull
+    <R> LanguageArray<R> map(@Nonnull Function<V, R> function){
+        Object[] mapped = new Object[values.length];
+        for(int i = 0; i < values.length; i++) mapped[i] = function.apply((V) values[i]);
+        return new LanguageArray<>(bits, mapped);
+    }
+
+    /**
+     * @return the languages that have a value, in index order
+     */
+    @Nonnull
+    List<Language> languages(){
+        List<Language> languages = new ArrayList<>(values.length);
+        for(int word = 0; word < bits.length; word++){
+            long remaining = bits[word];
+            while (remaining != 0){
+                languages.add(Language.getByIndex((word << 6) + Long.numberOfTrailingZeros(remaining)));
+                remaining &= remaining - 1;
+            }
+        }
+        return languages;
+    }
+
+    int size() { return values.length; }
+
+    boolean isEmpty() { return values.length == 0; }
+}
@@ -0,0 +1,214 @@
+package dev.sergiferry.languages.api;
+
+import org.apache.commons.lang.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Number, currency, date and duration formatters of a {@link Language}, built from {@link Language#getLocale()}.
+ * There is one instance per language, kept by language index. {@link NumberFormat} is not thread safe, so each
+ * thread keeps its own copy of the number formatters, while the immutable {@link DateTimeFormatter}s are shared.
+ *
+ * @see LanguagesAPI#formatNumber(Language, Number)
+ * @see LocalizedArgument
+ */
+public final class LanguageFormats {
+
+    private static volatile LanguageFormats[] byIndex = new LanguageFormats[0];
+
+    private final Language language;
+    private final Locale locale;
+    private final ThreadLocal<NumberFormat> number;
+    private final ThreadLocal<NumberFormat> integer;
+    private final ThreadLocal<NumberFormat> exact;
+    private final ThreadLocal<NumberFormat> percent;
+    private final ThreadLocal<NumberFormat> currency;
+    private final ThreadLocal<NumberFormat> otherCurrency;
+    private final DateTimeFormatter[] dates;
+    private final DateTimeFormatter[] times;
+    private final DateTimeFormatter[] dateTimes;
+
+    private LanguageFormats(Language language){
+        this.language = language;
+        this.locale = language.getLocale();
+        this.number = formatter(() -> NumberFormat.getNumberInstance(locale));
+        this.integer = formatter(() -> {
+            NumberFormat format = NumberFormat.getIntegerInstance(locale);
+            format.setGroupingUsed(false);
+            return format;
+        });
+        this.exact = formatter(() -> NumberFormat.getNumberInstance(locale));
+        this.percent = formatter(() -> NumberFormat.getPercentInstance(locale));
+        this.currency = formatter(() -> NumberFormat.getCurrencyInstance(locale));
+        this.otherCurrency = formatter(() -> NumberFormat.getCurrencyInstance(locale));
+        this.dates = new DateTimeFormatter[FormatStyle.values().length];
+        this.times = new DateTimeFormatter[FormatStyle.values().length];
+        this.dateTimes = new DateTimeFormatter[FormatStyle.values().length];
+        for(FormatStyle style : FormatStyle.values()){
+            dates[style.ordinal()] = DateTimeFormatter.ofLocalizedDate(style).withLocale(locale);
+            times[style.ordinal()] = DateTimeFormatter.ofLocalizedTime(style).withLocale(locale);
+            dateTimes[style.ordinal()] = DateTimeFormatter.ofLocalizedDateTime(style).withLocale(locale);
+        }
+    }
+
+    private static ThreadLocal<NumberFormat> formatter(Supplier<NumberFormat> supplier){ return ThreadLocal.withInitial(supplier); }
+
+    /**
+     * @param language Language, or {@code null} for the server language
+     * @return the formatters of that language
+     */
+    @Nonnull
+    public static LanguageFormats of(@Nullable Language language){
+        if(language == null) language = LanguagesAPI.getServerLanguage();
+        LanguageFormats[] formats = byIndex;
+        int index = language.getIndex();
+        if(index < formats.length && formats[index] != null) return formats[index];
+        return create(language);
+    }
+
+    private static synchronized LanguageFormats create(Language language){
+        int index = language.getIndex();
+        LanguageFormats[] formats = byIndex;
+        if(index < formats.length && formats[index] != null) return formats[index];
+        formats = Arrays.copyOf(formats, Math.max(index + 1, Math.max(formats.length, Language.getIndexedCount())));
+        formats[index] = new LanguageFormats(language);
+        byIndex = formats;
+        return formats[index];
+    }
+
+    @Nonnull public Language getLanguage() { return language; }
+
+    @Nonnull public Locale getLocale() { return locale; }
+
+    /**
+     * @return the number with the grouping and decimal separators of the language, and up to three decimals
+     */
+    @Nonnull
+    public String formatNumber(@Nonnull Number number){
+        Validate.notNull(number, "Number cannot be null.");
+        return this.number.get().format(number);
+    }
+
+    /**
+     * Formats the number keeping all its written decimals, {@code 1.50} is formatted with two decimals. Used for
+     * {@code #} in plural forms, so the text matches the plural form selected for the number.
+     */
+    @Nonnull
+    public String formatExact(@Nonnull Number number){
+        Validate.notNull(number, "Number cannot be null.");
+        if(number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte || number instanceof BigInteger) return this.number.get().format(number);
+        double value = number.doubleValue();
+        if(!(number instanceof BigDecimal) && (Double.isNaN(value) || Double.isInfinite(value))) return this.number.get().format(value);
+        BigDecimal decimal = number instanceof BigDecimal bigDecimal ? bigDecimal : new BigDecimal(number.toString());
+        NumberFormat format = exact.get();
+        int digits = Math.max(decimal.scale(), 0);
+        format.setMinimumFractionDigits(digits);
+        format.setMaximumFractionDigits(digits);
+        return format.format(decimal);
+    }
+
+    /**
+     * @param number Ratio, {@code 0.25} is 25%
+     * @return the number as a percentage
+     */
+    @Nonnull
+    public String formatPercent(@Nonnull Number number){
+        Validate.notNull(number, "Number cannot be null.");
+        return percent.get().format(number);
+    }
+
+    /**
+     * @return the amount in the currency of the region of the language
+     */
+    @Nonnull
+    public String formatCurrency(@Nonnull Number amount){
+        Validate.notNull(amount, "Amount cannot be null.");
+        return currency.get().format(amount);
+    }
+
+    /**
+     * @return the amount in that currency, with the symbol and separators of the language
+     */
+    @Nonnull
+    public String formatCurrency(@Nonnull Number amount, @Nonnull Currency currency){
+        Validate.notNull(amount, "Amount cannot be null.");
+        Validate.notNull(currency, "Currency cannot be null.");
+        NumberFormat format = otherCurrency.get();
+        if(!currency.equals(format.getCurrency())){
+            format.setCurrency(currency);
+            int digits = Math.max(currency.getDefaultFractionDigits(), 0);
+            format.setMinimumFractionDigits(digits);
+            format.setMaximumFractionDigits(digits);
+        }
+        return format.format(amount);
+    }
+
+    /**
+     * Formats a duration as hours, minutes and seconds ({@code 1:05:03}), or minutes and seconds ({@code 5:03})
+     * if it is shorter than one hour, with the digits of the language.
+     */
+    @Nonnull
+    public String formatDuration(@Nonnull Duration duration){
+        Validate.notNull(duration, "Duration cannot be null.");
+        NumberFormat format = integer.get();
+        StringBuilder builder = new StringBuilder(12);
+        if(duration.isNegative()){
+            builder.append('-');
+            duration = duration.negated();
+        }
+        long hours = duration.toHours();
+        int minutes = duration.toMinutesPart();
+        int seconds = duration.toSecondsPart();
+        format.setMinimumIntegerDigits(1);
+        if(hours > 0){
+            builder.append(format.format(hours)).append(':');
+            format.setMinimumIntegerDigits(2);
+        }
+        builder.append(format.format(minutes)).append(':');
+        format.setMinimumIntegerDigits(2);
+        builder.append(format.format(seconds));
+        format.setMinimumIntegerDigits(1);
+        return builder.toString();
+    }
+
+    @Nonnull
+    public String formatDate(@Nonnull TemporalAccessor date, @Nonnull FormatStyle style){ return dates[style.ordinal()].format(date); }
+
+    @Nonnull
+    public String formatTime(@Nonnull TemporalAccessor time, @Nonnull FormatStyle style){ return times[style.ordinal()].format(time); }
+
+    @Nonnull
+    public String formatDateTime(@Nonnull TemporalAccessor dateTime, @Nonnull FormatStyle style){ return dateTimes[style.ordinal()].format(dateTime); }
+
+    /**
+     * @return the instant formatted in the time zone of the server
+     */
+    @Nonnull
+    public String formatDateTime(@Nonnull Instant instant, @Nonnull FormatStyle style){ return formatDateTime(instant.atZone(ZoneId.systemDefault()), style); }
+
+    /**
+     * @param style Format style
+     * @return the shared date formatter of this language with that style
+     */
+    @Nonnull public DateTimeFormatter getDateFormatter(@Nonnull FormatStyle style) { return dates[style.ordinal()]; }
+
+    @Nonnull public DateTimeFormatter getDateTimeFormatter(@Nonnull FormatStyle style) { return dateTimes[style.ordinal()]; }
+
+    @Override public String toString() { return "LanguageFormats{" + locale + "}"; }
+}
@@ -8,12 +8,14 @@ import dev.sergiferry.languages.api.events.player.PlayerLanguageLoadEvent;
 import dev.sergiferry.languages.api.events.plugin.PluginLanguageLoadEvent;
 import dev.sergiferry.languages.api.exceptions.EmptyResultException;
 import dev.sergiferry.languages.api.exceptions.NotExternalDatabaseException;
+import dev.sergiferry.languages.api.minecraft.MinecraftTranslation;
 import dev.sergiferry.languages.debug.DebugManager;
 import dev.sergiferry.languages.integration.IntegrationsManager;
 import dev.sergiferry.languages.integration.integrations.ProtocolLib;
 import dev.sergiferry.languages.storage.Database;
 import dev.sergiferry.languages.storage.MySQL;
 import dev.sergiferry.languages.storage.SQLite;
+import dev.sergiferry.languages.utils.StringUtils;
 import dev.sergiferry.spigot.SpigotPlugin;
 import dev.sergiferry.spigot.server.ServerVersion;
 import org.apache.commons.lang.Validate;
@@ -26,6 +28,7 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
@@ -41,10 +44,16 @@ import javax.annotation.Nullable;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -62,6 +71,7 @@ public class LanguagesAPI implements Listener{
     private FileConfiguration configuration;
     private Map<String, PluginManager> pluginManagerMap;
     private final Map<UUID, Language> playerLanguage;
+    private final Map<UUID, PlayerTranslationCache> playerCaches;
     protected Map<Player, PlayerLoadLanguageTask> playerLoadLanguageTaskMap;
     private Language serverLanguage;
     private String apiVersion;
@@ -72,14 +82,18 @@ public class LanguagesAPI implements Listener{
     private boolean allowPlayerSelectLanguage;
     private boolean commentDefaultTranslations;
     private boolean readTranslationsFromDatabase;
+    private MinecraftTranslation.Preload minecraftPreload;
+    private long minecraftMemoryBudget;
     private boolean readServerLanguagesFromDatabase;
 
     private LanguagesAPI(){
         pluginManagerMap = new HashMap<>();
         playerLanguage = new HashMap<>();
+        playerCaches = new ConcurrentHashMap<>();
         playerLoadLanguageTaskMap = new HashMap<>();
         configuration = null;
         serverLanguage = Language.en_US;
+        minecraftPreload = MinecraftTranslation.Preload.LAZY_WARMUP;
         announcePlayerLanguageChange = true;
         database = null;
     }
@@ -110,6 +124,8 @@ public class LanguagesAPI implements Listener{
         defaults.put("player.allowSelectLanguage", true);
         defaults.put("translations.commentDefault", true);
         defaults.put("translations.readFromDatabase", false);
+        defaults.put("translations.minecraftPreload", MinecraftTranslation.Preload.LAZY_WARMUP.name());
+        defaults.put("translations.minecraftMemoryBudgetMB", 16);
         defaults.put("database.mysql", false);
         defaults.put("database.host", "localhost");
         defaults.put("database.port", 3306);
@@ -125,6 +141,8 @@ public class LanguagesAPI implements Listener{
         if(SpigotPlugin.getServerVersion().isNewerThanOrEqual(ServerVersion.VERSION_1_18)){
             configuration.setComments("player.announceLanguageChange", Arrays.asList("Player will be notified in-game when the server detects that their client's language has changed."));
             configuration.setComments("server.availableLanguages", Arrays.asList("These are the languages that players will be able to select", "You can use '*' to add all languages."));
+            configuration.setComments("translations.minecraftMemoryBudgetMB", Arrays.asList("Memory for the loaded Minecraft translations, the least recently used languages are released when it is exceeded.", "The server language, en_US and the languages of online players are always kept. Use 0 for no limit."));
+            configuration.setComments("translations.minecraftPreload", Arrays.asList("How the Minecraft translations of the available languages are loaded:", "EAGER loads them all while the server starts, LAZY when they are used for the first time,", "and LAZY_WARMUP loads them in the background after the server starts."));
         }
         if(m) { try { configuration.save(configFile); } catch (IOException e) { e.printStackTrace(); } }
         //
@@ -146,6 +164,8 @@ public class LanguagesAPI implements Listener{
         readServerLanguagesFromDatabase = configuration.getBoolean("server.readFromDatabase");
         readTranslationsFromDatabase = configuration.getBoolean("translations.readFromDatabase");
         commentDefaultTranslations = configuration.getBoolean("translations.commentDefault");
+        minecraftMemoryBudget = Math.max(0, configuration.getLong("translations.minecraftMemoryBudgetMB")) * 1024 * 1024;
+        minecraftPreload = MinecraftTranslation.Preload.grabPreload(configuration.getString("translations.minecraftPreload")).orElse(MinecraftTranslation.Preload.LAZY_WARMUP);
 
         List<Language> available = new ArrayList<>();
         for(String locales : configuration.getStringList("server.availableLanguages")){
@@ -179,15 +199,29 @@ public class LanguagesAPI implements Listener{
         catch (Exception e) { DebugManager.print(e); }
         //
         hook(languagesPlugin, serverLanguage, available);
+        MinecraftTranslation.enable(languagesPlugin);
         languagesPlugin.getServer().getPluginManager().registerEvents(this, languagesPlugin);
         Bukkit.getOnlinePlayers().forEach(x-> new PlayerLoadLanguageTask(x));
     }
 
     public void disable(LanguagesPlugin languagesPlugin){
         HandlerList.unregisterAll(this);
+        playerCaches.clear();
+        MinecraftTranslation.disable();
         try { getDatabase().disconnect(); } catch (SQLException e) { DebugManager.print(e); }
     }
 
+    /**
+     * Drops the precomputed fallback resolution and the cached results of every hooked plugin,
+     * needed when the similar languages of a language change.
+     */
+    protected static void invalidateFallbacks(){
+        INSTANCE.pluginManagerMap.values().forEach(x-> {
+            x.getFallbackTable().invalidateAll();
+            x.invalidateTranslations();
+        });
+    }
+
     @Nonnull
     public static PluginManager hook(Plugin plugin, Language defaultLanguage, File defaultLanguageFile, Collection<Language> additionalLanguages){
         Validate.notNull(plugin, "Plugin cannot be null");
@@ -246,11 +280,28 @@ public class LanguagesAPI implements Listener{
     @Nonnull
     public static Language getLanguage(@Nonnull Player player){
         Validate.notNull(player, "Player cannot be null");
-        if(!INSTANCE.isStillLoadingLanguage(player)){
-            if(INSTANCE.playerLanguage.containsKey(player.getUniqueId())) return INSTANCE.playerLanguage.get(player.getUniqueId());
-            else if(Language.grabClientLanguage(player).isPresent()) return Language.grabClientLanguage(player).orElse(INSTANCE.serverLanguage);
+        PlayerTranslationCache cache = INSTANCE.playerCaches.get(player.getUniqueId());
+        if(cache != null){
+            Language cached = cache.getLanguage(player);
+            if(cached != null) return cached;
         }
-        return INSTANCE.serverLanguage;
+        if(INSTANCE.isStillLoadingLanguage(player)) return INSTANCE.serverLanguage;
+        Language selected = INSTANCE.playerLanguage.get(player.getUniqueId());
+        String locale = player.getLocale();
+        Language language = selected != null ? selected : Language.grabLanguage(locale.toLowerCase()).orElse(INSTANCE.serverLanguage);
+        if(cache != null) cache.setLanguage(selected != null ? null : locale, language);
+        return language;
+    }
+
+    /**
+     * @return the cache of the player, or {@code null} if their language is still loading
+     */
+    @Nullable
+    protected static PlayerTranslationCache getPlayerCache(@Nonnull Player player){ return INSTANCE.playerCaches.get(player.getUniqueId()); }
+
+    private static void invalidatePlayerCache(@Nonnull Player player){
+        PlayerTranslationCache cache = INSTANCE.playerCaches.get(player.getUniqueId());
+        if(cache != null) cache.invalidate();
     }
 
     @Nonnull
@@ -262,13 +313,16 @@ public class LanguagesAPI implements Listener{
     public static void setLanguage(@Nonnull Player player, @Nonnull Language language){
         Validate.notNull(player, "Player cannot be null");
         Validate.notNull(language, "Language cannot be null");
+        invalidatePlayerCache(player);
         new PlayerLanguageChangeEvent(player, INSTANCE.playerLanguage.put(player.getUniqueId(), language), language, PlayerLanguageChangeEvent.Cause.SERVER);
         Bukkit.getScheduler().runTaskAsynchronously(LanguagesPlugin.getInstance(), () -> { try { getDatabase().getPlayerLanguagesTable().set(player.getUniqueId(), language, player.getLocale()); } catch (SQLException e) { DebugManager.print(e); }});
     }
 
     public static void resetLanguage(@Nonnull Player player){
         Validate.notNull(player, "Player cannot be null");
-        new PlayerLanguageChangeEvent(player, INSTANCE.playerLanguage.remove(player.getUniqueId()), getLanguage(player), PlayerLanguageChangeEvent.Cause.SERVER);
+        Language from = INSTANCE.playerLanguage.remove(player.getUniqueId());
+        invalidatePlayerCache(player);
+        new PlayerLanguageChangeEvent(player, from, getLanguage(player), PlayerLanguageChangeEvent.Cause.SERVER);
         Bukkit.getScheduler().runTaskAsynchronously(LanguagesPlugin.getInstance(), () -> { try { getDatabase().getPlayerLanguagesTable().set(player.getUniqueId(), null, player.getLocale()); } catch (SQLException e) { DebugManager.print(e); }});
     }
 
@@ -287,6 +341,13 @@ public class LanguagesAPI implements Listener{
 
     public static boolean isReadServerLanguagesFromDatabase() { return INSTANCE.readServerLanguagesFromDatabase; }
 
+    @Nonnull public static MinecraftTranslation.Preload getMinecraftPreload() { return INSTANCE.minecraftPreload; }
+
+    /**
+     * @return memory budget of the loaded Minecraft translations in bytes, or 0 if there is no limit
+     */
+    public static long getMinecraftMemoryBudget() { return INSTANCE.minecraftMemoryBudget; }
+
     protected static Database getDatabase() { return INSTANCE.database; }
 
     public static Database.Type getDatabaseType(){ return INSTANCE.database.getType(); }
@@ -301,6 +362,33 @@ public class LanguagesAPI implements Listener{
 
     public static Optional<Language> getSelectedLanguage(Player player){ return Optional.ofNullable(INSTANCE.playerLanguage.getOrDefault(player.getUniqueId(), null)); }
 
+    /*
+        LOCALE FORMATS
+     */
+
+    /**
+     * Formats a number with the separators of the language, using the cached formatters of that language.
+     * To format placeholder arguments in the language of the translation, use {@link LocalizedArgument}.
+     *
+     * @param language Language, or {@code null} for the server language
+     * @param number Number
+     * @return formatted number
+     * @see LanguageFormats
+     */
+    @Nonnull public static String formatNumber(@Nullable Language language, @Nonnull Number number) { return LanguageFormats.of(language).formatNumber(number); }
+
+    @Nonnull public static String formatPercent(@Nullable Language language, @Nonnull Number number) { return LanguageFormats.of(language).formatPercent(number); }
+
+    @Nonnull public static String formatCurrency(@Nullable Language language, @Nonnull Number amount) { return LanguageFormats.of(language).formatCurrency(amount); }
+
+    @Nonnull public static String formatCurrency(@Nullable Language language, @Nonnull Number amount, @Nonnull Currency currency) { return LanguageFormats.of(language).formatCurrency(amount, currency); }
+
+    @Nonnull public static String formatDuration(@Nullable Language language, @Nonnull Duration duration) { return LanguageFormats.of(language).formatDuration(duration); }
+
+    @Nonnull public static String formatDate(@Nullable Language language, @Nonnull TemporalAccessor date, @Nonnull FormatStyle style) { return LanguageFormats.of(language).formatDate(date, style); }
+
+    @Nonnull public static String formatDateTime(@Nullable Language language, @Nonnull Instant instant, @Nonnull FormatStyle style) { return LanguageFormats.of(language).formatDateTime(instant, style); }
+
     @EventHandler
     private void onLocaleChange(PlayerLocaleChangeEvent event){
         if(isStillLoadingLanguage(event.getPlayer())) return;
@@ -343,6 +431,22 @@ public class LanguagesAPI implements Listener{
     private void onQuit(PlayerQuitEvent event){
         Player player = event.getPlayer();
         playerLanguage.remove(player.getUniqueId());
+        playerCaches.remove(player.getUniqueId());
+        if(minecraftMemoryBudget > 0) Bukkit.getScheduler().runTask(LanguagesPlugin.getInstance(), MinecraftTranslation::trimToMemoryBudget);
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    private void onLanguageChange(PlayerLanguageChangeEvent event){
+        invalidatePlayerCache(event.getPlayer());
+        MinecraftTranslation.load(event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    private void onLanguageLoad(PlayerLanguageLoadEvent event){
+        Player player = event.getPlayer();
+        if(!player.isOnline()) return;
+        playerCaches.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerTranslationCache()).invalidate();
+        MinecraftTranslation.load(event.getLanguage());
     }
 
     protected static class PlayerLoadLanguageTask extends CompletableFuture<PlayerLoadLanguageTask.Result>{
@@ -426,6 +530,13 @@ public class LanguagesAPI implements Listener{
         private final Plugin plugin;
         private final LanguagesAPI languagesAPI;
         private final Map<String, Translation> translations;
+        private final TranslationGraph translationGraph;
+        private final Object snapshotLock;
+        private final AtomicLong snapshotVersion;
+        private final ThreadLocal<SnapshotBatch> snapshotBatch;
+        private volatile LanguageArray<TranslationSnapshot> snapshots;
+        private int translationCount;
+        private final FallbackTable fallbackTable;
         private final Map<Language, YamlConfiguration> languagesYAML;
         private final Language defaultLanguage;
         private final List<Language> translatedLanguages;
@@ -436,6 +547,9 @@ public class LanguagesAPI implements Listener{
         private boolean fallbackToServerLanguage;
         private boolean fallbackToDefault;
         private boolean autoColorTranslations;
+        private boolean staticPlaceholderAPI;
+        private long placeholderAPICacheTime;
+        private volatile boolean hooked;
         private boolean saveOnDisable;
 
         private PluginManager(@Nonnull LanguagesAPI languagesAPI, @Nonnull Plugin plugin, Language defaultLanguage, @Nullable File defaultLanguageFile, Collection<Language> translatedLanguages){
@@ -447,8 +561,16 @@ public class LanguagesAPI implements Listener{
             this.fallbackToServerLanguage = true;
             this.fallbackToDefault = true;
             this.autoColorTranslations = true;
+            this.hooked = true;
             this.useFormattedPlaceholders = LanguagesPlugin.getInstance().equals(plugin);
-            this.translations = new HashMap<>();
+            this.translations = new ConcurrentHashMap<>();
+            this.translationGraph = new TranslationGraph(this);
+            this.snapshotLock = new Object();
+            this.snapshotVersion = new AtomicLong();
+            this.snapshotBatch = new ThreadLocal<>();
+            this.snapshots = LanguageArray.empty();
+            this.translationCount = 0;
+            this.fallbackTable = new FallbackTable(this);
             this.languagesYAML = new HashMap<>();
             this.saveOnDisable = false;
             this.defaultLanguageFile = defaultLanguageFile;
@@ -466,8 +588,14 @@ public class LanguagesAPI implements Listener{
             });
             HandlerList.unregisterAll(this);
             LanguagesAPI.INSTANCE.pluginManagerMap.remove(plugin.getName(), this);
+            hooked = false;
         }
 
+        /**
+         * @return if this plugin manager is still hooked, {@code false} after {@link #disable()}
+         */
+        public boolean isHooked() { return hooked; }
+
         @EventHandler
         public void onDisable(PluginDisableEvent event){
             if(!saveOnDisable) return;
@@ -535,29 +663,38 @@ public class LanguagesAPI implements Listener{
         public void load(@Nonnull Language language) throws IOException, FileNotFoundException, InvalidConfigurationException {
             Validate.notNull(language, "Cannot load a null language.");
             Validate.isTrue(LanguagesAPI.getAvailableLanguages().contains(language), "This language is not available.");
-            readDefaults(language, "yml").ifPresent(inputStreamReader -> {
-                DebugManager.debug("Default " + language.getLocaleCode() + " YML translation file found for " + getPlugin().getName());
-                YamlConfiguration yamlConfiguration = YamlConfiguration.loadConfiguration(inputStreamReader);
-                setDefaultTranslations(language, yamlConfiguration);
-            });
-            readDefaults(language, "json").ifPresent(inputStreamReader -> {
-                DebugManager.debug("Default " + language.getLocaleCode() + " JSON translation file found for " + getPlugin().getName());
-                JsonObject jsonObject = new JsonParser().parse(inputStreamReader).getAsJsonObject();
-                setDefaultTranslations(language, jsonObject);
-            });
-            File folder = new File(language.getFolderPath(this));
-            folder.mkdirs();
-            File file = new File(language.getTranslationsFilePath(this));
-            YamlConfiguration config = new YamlConfiguration();
-            config.load(file);
-            languagesYAML.put(language, config);
-            for(String keys : config.getKeys(true)){
-                Translation.Type.grabTypeFromYAML(config, keys).ifPresent(type -> {
-                    Translation translation = getTranslation(keys, type);
-                    Object o = type.fromYAML(config, keys);
-                    if(!type.isEmpty(o)) translation.setCache(language, o);
+            SnapshotBatch batch = openBatch();
+            try {
+                readDefaults(language, "yml").ifPresent(inputStreamReader -> {
+                    DebugManager.debug("Default " + language.getLocaleCode() + " YML translation file found for " + getPlugin().getName());
+                    YamlConfiguration yamlConfiguration = YamlConfiguration.loadConfiguration(inputStreamReader);
+                    setDefaultTranslations(language, yamlConfiguration);
                 });
+                readDefaults(language, "json").ifPresent(inputStreamReader -> {
+                    DebugManager.debug("Default " + language.getLocaleCode() + " JSON translation file found for " + getPlugin().getName());
+                    JsonObject jsonObject = new JsonParser().parse(inputStreamReader).getAsJsonObject();
+                    setDefaultTranslations(language, jsonObject);
+                });
+                File folder = new File(language.getFolderPath(this));
+                folder.mkdirs();
+                File file = new File(language.getTranslationsFilePath(this));
+                YamlConfiguration config = new YamlConfiguration();
+                config.load(file);
+                languagesYAML.put(language, config);
+                for(String keys : config.getKeys(true)){
+                    grabTypeFromYAML(keys, config, keys).ifPresent(type -> {
+                        Translation translation = getTranslation(keys, type);
+                        Object o;
+                        try { o = type.fromYAML(config, keys); }
+                        catch (IllegalArgumentException e){
+                            Bukkit.getConsoleSender().sendMessage(LanguagesPlugin.getInstance().getPrefix() + "§cInvalid translation §e" + keys.toLowerCase() + " §cin " + language.getConsoleName() + " for §e" + plugin.getName() + "§c: §7" + e.getMessage());
+                            return;
+                        }
+                        if(!type.isEmpty(o)) translation.setCache(language, o);
+                    });
+                }
             }
+            finally { closeBatch(batch); }
         }
 
         private Optional<InputStreamReader> readDefaults(Language language, String fileExtension) {
@@ -669,16 +806,20 @@ public class LanguagesAPI implements Listener{
                 }
                 if(future.isCancelled() || future.isDone()) return;
                 Set<Translation> total = new HashSet<>();
-                for(Language language : map.keySet()){
-                    for(NamespacedKey key : map.get(language).keySet()){
-                        Pair<JsonArray, Translation.Type> pair = map.get(language).get(key);
-                        Translation.Type type = pair.getSecond();
-                        Object object = type.fromJson(pair.getFirst());
-                        Translation translation = getTranslation(key.getKey(), type);
-                        translation.setCache(language, object);
-                        if(!total.contains(translation)) total.add(translation);
+                SnapshotBatch batch = openBatch();
+                try {
+                    for(Language language : map.keySet()){
+                        for(NamespacedKey key : map.get(language).keySet()){
+                            Pair<JsonArray, Translation.Type> pair = map.get(language).get(key);
+                            Translation.Type type = pair.getSecond();
+                            Object object = type.fromJson(pair.getFirst());
+                            Translation translation = getTranslation(key.getKey(), type);
+                            translation.setCache(language, object);
+                            if(!total.contains(translation)) total.add(translation);
+                        }
                     }
                 }
+                finally { closeBatch(batch); }
                 future.complete(total);
             });
             future.orTimeout(5, TimeUnit.SECONDS);
@@ -699,14 +840,18 @@ public class LanguagesAPI implements Listener{
                 }
                 if(future.isCancelled() || future.isDone()) return;
                 Set<Translation> total = new HashSet<>();
-                for(NamespacedKey key : map.keySet()){
-                    Pair<JsonArray, Translation.Type> pair = map.get(key);
-                    Translation.Type type = pair.getSecond();
-                    Object object = type.fromJson(pair.getFirst());
-                    Translation translation = getTranslation(key.getKey(), type);
-                    translation.setCache(language, object);
-                    if(!total.contains(translation)) total.add(translation);
+                SnapshotBatch batch = openBatch();
+                try {
+                    for(NamespacedKey key : map.keySet()){
+                        Pair<JsonArray, Translation.Type> pair = map.get(key);
+                        Translation.Type type = pair.getSecond();
+                        Object object = type.fromJson(pair.getFirst());
+                        Translation translation = getTranslation(key.getKey(), type);
+                        translation.setCache(language, object);
+                        if(!total.contains(translation)) total.add(translation);
+                    }
                 }
+                finally { closeBatch(batch); }
                 future.complete(total);
             });
             future.orTimeout(5, TimeUnit.SECONDS);
@@ -731,30 +876,269 @@ public class LanguagesAPI implements Listener{
 
         public List<Language> getUnavailableLanguages() { return unavailableLanguages; }
 
-        public void setFallbackToDefaultLanguage(boolean fallbackToDefault) { this.fallbackToDefault = fallbackToDefault; }
+        public void setFallbackToDefaultLanguage(boolean fallbackToDefault) {
+            this.fallbackToDefault = fallbackToDefault;
+            fallbackTable.invalidateAll();
+            invalidateTranslations();
+        }
 
         public boolean isFallbackToDefaultLanguage() { return fallbackToDefault; }
 
+        protected FallbackTable getFallbackTable() { return fallbackTable; }
+
         public boolean isAutoColorTranslations() { return autoColorTranslations; }
 
-        public void setAutoColorTranslations(boolean autoColorTranslations) { this.autoColorTranslations = autoColorTranslations; }
+        public void setAutoColorTranslations(boolean autoColorTranslations) {
+            if(this.autoColorTranslations == autoColorTranslations) return;
+            this.autoColorTranslations = autoColorTranslations;
+            invalidateTranslations();
+        }
+
+        public boolean isStaticPlaceholderAPI() { return staticPlaceholderAPI; }
+
+        /**
+         * Declares that the PlaceholderAPI placeholders used in the translations of this plugin only depend on the
+         * player and do not change while they are online, so {@link Translation#get(Player)} can keep the value
+         * rendered for each player instead of replacing the placeholders on every call.
+         * Translations without placeholders are cached for each player anyway.
+         */
+        public void setStaticPlaceholderAPI(boolean staticPlaceholderAPI) {
+            if(this.staticPlaceholderAPI == staticPlaceholderAPI) return;
+            this.staticPlaceholderAPI = staticPlaceholderAPI;
+            invalidateTranslations();
+        }
+
+        /**
+         * @return time in milliseconds that a value with PlaceholderAPI placeholders is kept for each player, or 0
+         */
+        public long getPlaceholderAPICacheTime() { return placeholderAPICacheTime; }
+
+        /**
+         * Keeps the values with PlaceholderAPI placeholders rendered for each player during that time, so the same
+         * lore or scoreboard line rendered many times per second only asks PlaceholderAPI once. Disabled by default,
+         * values without placeholders are always cached.
+         *
+         * @param time Time, or 0 to replace the placeholders on every call
+         * @param unit Unit of the time
+         */
+        public void setPlaceholderAPICacheTime(long time, @Nonnull TimeUnit unit) {
+            Validate.notNull(unit, "Time unit cannot be null");
+            Validate.isTrue(time >= 0, "Cache time cannot be negative");
+            this.placeholderAPICacheTime = unit.toMillis(time);
+            invalidateTranslations();
+        }
 
         public boolean isFallbackToSimilarLanguage() { return fallbackToSimilar; }
 
-        public void setFallbackToSimilarLanguage(boolean fallbackToSimilar) { this.fallbackToSimilar = fallbackToSimilar; }
+        public void setFallbackToSimilarLanguage(boolean fallbackToSimilar) {
+            this.fallbackToSimilar = fallbackToSimilar;
+            fallbackTable.invalidateAll();
+            invalidateTranslations();
+        }
 
         public boolean isFallbackToServerLanguage() { return fallbackToServerLanguage; }
 
-        public void setFallbackToServerLanguage(boolean fallbackToServerLanguage) { this.fallbackToServerLanguage = fallbackToServerLanguage; }
+        public void setFallbackToServerLanguage(boolean fallbackToServerLanguage) {
+            this.fallbackToServerLanguage = fallbackToServerLanguage;
+            fallbackTable.invalidateAll();
+            invalidateTranslations();
+        }
 
         public boolean isUseFormattedPlaceholders() { return useFormattedPlaceholders; }
 
-        public void setUseFormattedPlaceholders(boolean useFormattedPlaceholders) { this.useFormattedPlaceholders = useFormattedPlaceholders; }
+        public void setUseFormattedPlaceholders(boolean useFormattedPlaceholders) {
+            this.useFormattedPlaceholders = useFormattedPlaceholders;
+            invalidateTranslations();
+        }
 
         public boolean isSaveOnDisable() { return saveOnDisable; }
 
         public void setSaveOnDisable(boolean saveOnDisable) { this.saveOnDisable = saveOnDisable; }
 
+        /*
+            RESULTS CACHE
+         */
+
+        protected TranslationGraph getTranslationGraph() { return translationGraph; }
+
+        /*
+            SNAPSHOTS
+         */
+
+        /**
+         * @param translation New translation of this plugin
+         * @return the slot of the translation, its index in the snapshots
+         */
+        protected int registerTranslation(@Nonnull Translation translation){
+            synchronized (snapshotLock){ return translationCount++; }
+        }
+
+        /**
+         * Gets the current snapshot of the translations in that language. The snapshot never changes, so it can be
+         * read without locks while values are being loaded or downloaded.
+         *
+         * @param language Language
+         * @return current snapshot
+         */
+        @Nonnull
+        public TranslationSnapshot getSnapshot(@Nonnull Language language){
+            Validate.notNull(language, "Language cannot be null");
+            TranslationSnapshot snapshot = snapshots.get(language);
+            return snapshot == null ? TranslationSnapshot.empty(language) : snapshot;
+        }
+
+        /**
+         * @return the current snapshot of every language with translations
+         */
+        @Nonnull
+        public List<TranslationSnapshot> getSnapshots(){
+            LanguageArray<TranslationSnapshot> current = snapshots;
+            List<TranslationSnapshot> list = new ArrayList<>(current.size());
+            current.languages().forEach(x-> list.add(current.get(x)));
+            return list;
+        }
+
+        @Nullable
+        protected Translation.Entry getEntry(@Nonnull Translation translation, @Nonnull Language language){
+            TranslationSnapshot snapshot = snapshots.get(language);
+            return snapshot == null ? null : snapshot.get(translation.getSlot());
+        }
+
+        /**
+         * Stores the value of a translation. Inside a {@link #batch(Runnable)} the value is published when the batch
+         * finishes, otherwise a new snapshot is published right away, copying only the page of the slot.
+         *
+         * @param replace if false the value is only stored if the translation has no value in that language
+         * @return true if the value was stored
+         */
+        protected boolean putEntry(@Nonnull Translation translation, @Nonnull Language language, @Nonnull Translation.Entry entry, boolean replace){
+            int slot = translation.getSlot();
+            SnapshotBatch batch = snapshotBatch.get();
+            if(batch != null){
+                Map<Integer, Translation.Entry> values = batch.values.computeIfAbsent(language, x-> new HashMap<>());
+                Set<Integer> defaults = batch.defaults.computeIfAbsent(language, x-> new HashSet<>());
+                if(!replace && (values.containsKey(slot) || getEntry(translation, language) != null)) return false;
+                values.put(slot, entry);
+                if(replace) defaults.remove(slot);
+                else defaults.add(slot);
+                batch.changed.add(translation);
+                return true;
+            }
+            synchronized (snapshotLock){
+                TranslationSnapshot snapshot = getSnapshot(language);
+                if(!replace && snapshot.get(slot) != null) return false;
+                TranslationSnapshot.Builder builder = snapshot.edit();
+                builder.set(slot, entry);
+                LanguageArray<TranslationSnapshot> staged = stage(snapshots, language, builder);
+                Set<String> references = translation.getReferences(staged);
+                translationGraph.addReferences(translation.getSimpleKey(), references);
+                snapshots = staged;
+                translationGraph.update(translation.getSimpleKey(), references);
+            }
+            onTranslationChange(translation);
+            return true;
+        }
+
+        /**
+         * Builds the next snapshots without publishing them. The new references of the changed translations are added to
+         * the graph before publishing, so a reader never sees a value whose cycle is not detected yet, and the old ones are
+         * removed after publishing, so a cycle is not released while a reader can still see its old values.
+         */
+        private LanguageArray<TranslationSnapshot> stage(LanguageArray<TranslationSnapshot> current, Language language, TranslationSnapshot.Builder builder){
+            return current.with(language, builder.build(snapshotVersion.incrementAndGet()));
+        }
+
+        private void onTranslationChange(Translation translation){
+            fallbackTable.invalidate(translation);
+            invalidate(translation);
+        }
+
+        /**
+         * Runs that task storing every value it sets, in any language, in a single snapshot per language, published when
+         * the task finishes. Other threads keep reading the previous values until then. Batches can be nested.
+         *
+         * @param runnable Task that sets translations
+         */
+        public void batch(@Nonnull Runnable runnable){
+            Validate.notNull(runnable, "Task cannot be null");
+            SnapshotBatch batch = openBatch();
+            try { runnable.run(); }
+            finally { closeBatch(batch); }
+        }
+
+        private SnapshotBatch openBatch(){
+            SnapshotBatch batch = snapshotBatch.get();
+            if(batch == null){
+                batch = new SnapshotBatch();
+                snapshotBatch.set(batch);
+            }
+            batch.depth++;
+            return batch;
+        }
+
+        private void closeBatch(SnapshotBatch batch){
+            if(--batch.depth > 0) return;
+            snapshotBatch.remove();
+            if(batch.changed.isEmpty()) return;
+            synchronized (snapshotLock){
+                LanguageArray<TranslationSnapshot>[] staged = new LanguageArray[] { snapshots };
+                batch.values.forEach((language, values) -> {
+                    TranslationSnapshot snapshot = getSnapshot(language);
+                    Set<Integer> defaults = batch.defaults.get(language);
+                    TranslationSnapshot.Builder builder = snapshot.edit();
+                    for(Map.Entry<Integer, Translation.Entry> value : values.entrySet()){
+                        if(defaults.contains(value.getKey()) && builder.get(value.getKey()) != null) continue;
+                        builder.set(value.getKey(), value.getValue());
+                    }
+                    staged[0] = stage(staged[0], language, builder);
+                });
+                Map<Translation, Set<String>> references = new HashMap<>();
+                batch.changed.forEach(x-> references.put(x, x.getReferences(staged[0])));
+                references.forEach((translation, keys) -> translationGraph.addReferences(translation.getSimpleKey(), keys));
+                snapshots = staged[0];
+                references.forEach((translation, keys) -> translationGraph.update(translation.getSimpleKey(), keys));
+            }
+            batch.changed.forEach(this::onTranslationChange);
+        }
+
+        private static class SnapshotBatch {
+
+            private final Map<Language, Map<Integer, Translation.Entry>> values = new HashMap<>();
+            private final Map<Language, Set<Integer>> defaults = new HashMap<>();
+            private final Set<Translation> changed = new LinkedHashSet<>();
+            private int depth;
+        }
+
+        /**
+         * Drops the cached results of that translation, and of every translation that references it, directly
+         * or through other translations, with {@code $T{}}.
+         *
+         * @param translation Translation that changed
+         */
+        public void invalidate(@Nonnull Translation translation){
+            Validate.notNull(translation, "Translation cannot be null");
+            Set<String> visited = new HashSet<>();
+            Deque<String> pending = new ArrayDeque<>();
+            pending.push(normalizeKey(translation.getSimpleKey()));
+            while (!pending.isEmpty()){
+                String current = pending.pop();
+                if(!visited.add(current)) continue;
+                Translation dependent = translations.get(current);
+                if(dependent != null) dependent.invalidate();
+                translationGraph.getDependents(current).forEach(pending::push);
+            }
+        }
+
+        /**
+         * Drops the cached results of every translation of this plugin.
+         */
+        public void invalidateTranslations(){ getTranslationsValues().forEach(Translation::invalidate); }
+
+        /**
+         * Translations are registered by their lower case simpleKey. Lower case keys are returned as they are, without a copy.
+         */
+        private static String normalizeKey(@Nonnull String simpleKey){ return simpleKey.toLowerCase(); }
+
         @Nonnull public Set<String> getTranslationsKeys() { return translations.keySet(); }
         @Nonnull public Collection<Translation> getTranslationsValues() { return translations.values(); }
         @Nonnull public Set<Map.Entry<String, Translation>> getTranslationsEntrySet() { return translations.entrySet(); }
@@ -766,7 +1150,7 @@ public class LanguagesAPI implements Listener{
         @Nonnull
         public boolean hasTranslation(@Nonnull String simpleKey){
             Validate.notNull(simpleKey, "Simple Key cannot be null");
-            return translations.containsKey(simpleKey.toLowerCase());
+            return translations.containsKey(normalizeKey(simpleKey));
         }
 
         /**
@@ -778,7 +1162,7 @@ public class LanguagesAPI implements Listener{
          */
         public <T> Optional<Translation.Type<T>> grabTranslationType(@Nonnull String simpleKey){
             Validate.notNull(simpleKey,"Simple Key cannot be null");
-            Translation<T> translation = translations.getOrDefault(simpleKey.toLowerCase(), null);
+            Translation<T> translation = translations.get(normalizeKey(simpleKey));
             return translation == null ? Optional.empty() : Optional.of(translation.getType());
         }
 
@@ -812,9 +1196,9 @@ public class LanguagesAPI implements Listener{
         public <T> Translation<T> getTranslation(@Nonnull String simpleKey, @Nonnull Translation.Type<T> type) throws IllegalArgumentException{
             Validate.notNull(simpleKey, "Translation simpleKey cannot be null.");
             Validate.notNull(type, "Type cannot be null");
-            simpleKey = simpleKey.toLowerCase();
-            Translation translation = translations.getOrDefault(simpleKey, createTranslation(simpleKey, type));
-            if(translation == null) throw new IllegalStateException("Translation '" + simpleKey + "' was not found and not created.");
+            String key = normalizeKey(simpleKey);
+            Translation translation = translations.get(key);
+            if(translation == null) translation = translations.computeIfAbsent(key, x-> new Translation(this, x, type));
             if(!translation.canBeModified()) throw new IllegalStateException("This translation cannot be modified.");
             Validate.isTrue(translation.getType().equals(type), "The translation type " + type.getName() + " is not the same as the correct " + translation.getType().getName() +". (Translation key: " + translation.getKey() + ")");
             return translation;
@@ -824,16 +1208,150 @@ public class LanguagesAPI implements Listener{
         public <T> Translation.Unmodifiable<T> getUnmodifiableTranslation(@Nonnull String simpleKey, @Nonnull Translation.Type<T> type) throws IllegalArgumentException{
             Validate.notNull(simpleKey, "Translation simpleKey cannot be null.");
             Validate.notNull(type, "Type cannot be null");
-            simpleKey = simpleKey.toLowerCase();
-            Translation translation = translations.getOrDefault(simpleKey, createUnmodifiableTranslation(simpleKey, type));
-            if(translation == null) throw new IllegalStateException("Translation '" + simpleKey + "' was not found and not created.");
-            if(translation.canBeModified()) throw new IllegalStateException("Translation '" + simpleKey + "' is not unmodifiable.");
+            String key = normalizeKey(simpleKey);
+            Translation translation = translations.get(key);
+            if(translation == null) translation = translations.computeIfAbsent(key, x-> new Translation.Unmodifiable(this, x, type));
+            if(translation.canBeModified()) throw new IllegalStateException("Translation '" + key + "' is not unmodifiable.");
             Validate.isTrue(translation.getType().equals(type), "The translation type " + type.getName() + " is not the same as the correct " + translation.getType().getName() +". (Translation key: " + translation.getKey() + ")");
             return (Translation.Unmodifiable<T>) translation;
         }
 
         public <T> Translation.Result<T> getTranslationResult(String simpleKey, Translation.Type<T> type, Language language){ return getTranslation(simpleKey, type).getResult(language); }
 
+        public <T> Translation.Result<T> getTranslationResult(@Nonnull TranslationKey<T> key, @Nullable Language language){ return key.getResult(language); }
+
+        // TRANSLATION KEYS
+
+        /**
+         * Gets the handle of a translation, creating the translation if it's not created yet. Keep the handle and use it
+         * instead of the {@code simpleKey} on frequent calls, it skips the key normalization and the registry lookup.
+         *
+         * @param simpleKey Translation simpleKey
+         * @param type Translation Type
+         * @return {@code TranslationKey<T>} handle
+         * @throws IllegalArgumentException if translation is created, and it's not that type.
+         */
+        @Nonnull
+        public <T> TranslationKey<T> key(@Nonnull String simpleKey, @Nonnull Translation.Type<T> type) throws IllegalArgumentException{
+            Validate.notNull(simpleKey, "Translation simpleKey cannot be null.");
+            Validate.notNull(type, "Type cannot be null");
+            Translation<T> translation = translations.get(normalizeKey(simpleKey));
+            if(translation == null) return getTranslation(simpleKey, type).getTranslationKey();
+            Validate.isTrue(translation.getType().equals(type), "The translation type " + type.getName() + " is not the same as the correct " + translation.getType().getName() +". (Translation key: " + translation.getKey() + ")");
+            return translation.getTranslationKey();
+        }
+
+        @Nonnull
+        public TranslationKey<String> key(@Nonnull String simpleKey) throws IllegalArgumentException{ return key(simpleKey, Translation.Type.STRING); }
+
+        @Nonnull
+        public TranslationKey<List<String>> listKey(@Nonnull String simpleKey) throws IllegalArgumentException{ return key(simpleKey, Translation.Type.LIST); }
+
+        @Nonnull
+        public TranslationKey<TranslationMessage> messageKey(@Nonnull String simpleKey) throws IllegalArgumentException{ return key(simpleKey, Translation.Type.MESSAGE_FORMAT); }
+
+        // GET MANY TRANSLATIONS
+
+        /**
+         * Gets many translations in the same language with a single call.
+         *
+         * @param simpleKeys Translations simpleKeys
+         * @param type Translations Type
+         * @param language Language, or {@code null} to use the fallback language
+         * @return map with the translation of every simpleKey, in the same order as {@code simpleKeys}
+         * @throws IllegalArgumentException if a translation is created, and it's not that type.
+         */
+        @Nonnull
+        public <T> Map<String, T> getTranslations(@Nonnull Collection<String> simpleKeys, @Nonnull Translation.Type<T> type, @Nullable Language language) throws IllegalArgumentException{ return getTranslations(simpleKeys, type, language, null); }
+
+        /**
+         * Gets many translations in the language of the player with a single call. The player language is resolved once.
+         *
+         * @param simpleKeys Translations simpleKeys
+         * @param type Translations Type
+         * @param player Player
+         * @return map with the translation of every simpleKey, in the same order as {@code simpleKeys}
+         * @throws IllegalArgumentException if a translation is created, and it's not that type.
+         */
+        @Nonnull
+        public <T> Map<String, T> getTranslations(@Nonnull Collection<String> simpleKeys, @Nonnull Translation.Type<T> type, @Nonnull Player player) throws IllegalArgumentException{
+            Validate.notNull(simpleKeys, "Simple Keys cannot be null");
+            Validate.notNull(player, "Player cannot be null.");
+            return getTranslations(simpleKeys, type, getLanguage(player), player);
+        }
+
+        /**
+         * Resolves the fallback chain of the language once, and takes the snapshot of every language in it once, so each
+         * key is a slot read in a few snapshots. Literal values are returned as they are, other values go through the
+         * cached result of their translation. PlaceholderAPI is only checked once for the whole batch.
+         */
+        private <T> Map<String, T> getTranslations(Collection<String> simpleKeys, Translation.Type<T> type, Language language, Player player){
+            Validate.notNull(simpleKeys, "Simple Keys cannot be null");
+            LanguageArray<TranslationSnapshot> current = snapshots;
+            List<Language> chain = fallbackTable.getChain(language);
+            List<TranslationSnapshot> chainSnapshots = new ArrayList<>(chain.size());
+            for(Language x : chain) if(current.contains(x)) chainSnapshots.add(current.get(x));
+            boolean colored = isAutoColorTranslations();
+            boolean placeholderAPI = player != null && IntegrationsManager.isUsingPlaceholderAPI();
+            Map<String, T> result = new LinkedHashMap<>(Math.max(16, simpleKeys.size() * 4 / 3 + 1));
+            for(String simpleKey : simpleKeys){
+                Translation<T> translation = getTranslation(simpleKey, type);
+                Translation.Entry<?> entry = null;
+                for(int i = 0; entry == null && i < chainSnapshots.size(); i++) entry = chainSnapshots.get(i).get(translation.getSlot());
+                String literal = entry != null && type == Translation.Type.STRING && entry.templates() != null ? entry.templates()[0].getLiteral(colored) : null;
+                if(literal != null && (!placeholderAPI || !StringUtils.containsPlaceholderAPI(literal))){
+                    result.put(simpleKey, (T) literal);
+                    continue;
+                }
+                Translation.Result<T> rendered = translation.getResult(language);
+                if(placeholderAPI && rendered.hasPlaceholderAPI()) rendered = rendered.replacePlaceholderAPI(player);
+                result.put(simpleKey, rendered.getFinalResult());
+            }
+            return result;
+        }
+
+        @Nonnull
+        public Map<String, String> getTranslations(@Nonnull Collection<String> simpleKeys, @Nullable Language language){ return getTranslations(simpleKeys, Translation.Type.STRING, language); }
+
+        /**
+         * Gets many translations in the same language with a single call, using their handles.
+         *
+         * @param keys Translations handles
+         * @param language Language, or {@code null} to use the fallback language
+         * @return map with the translation of every handle, in the same order as {@code keys}
+         */
+        @Nonnull
+        public <T> Map<TranslationKey<T>, T> getTranslationsByKey(@Nonnull Collection<TranslationKey<T>> keys, @Nullable Language language){
+            Validate.notNull(keys, "Keys cannot be null");
+            Map<TranslationKey<T>, T> result = new LinkedHashMap<>();
+            for(TranslationKey<T> key : keys) result.put(key, key.get(language));
+            return result;
+        }
+
+        @Nonnull
+        public Map<String, String> getTranslations(@Nonnull Collection<String> simpleKeys, @Nonnull Player player){ return getTranslations(simpleKeys, Translation.Type.STRING, player); }
+
+        /**
+         * Gets a translation in many languages with a single call. The translation is looked up once.
+         *
+         * @param simpleKey Translation simpleKey
+         * @param type Translation Type
+         * @param languages Languages
+         * @return map with the translation in every language, in the same order as {@code languages}
+         * @throws IllegalArgumentException if translation is created, and it's not that type.
+         */
+        @Nonnull
+        public <T> Map<Language, T> getTranslationAcrossLanguages(@Nonnull String simpleKey, @Nonnull Translation.Type<T> type, @Nonnull Collection<Language> languages) throws IllegalArgumentException{
+            Validate.notNull(languages, "Languages cannot be null");
+            Translation<T> translation = getTranslation(simpleKey, type);
+            Map<Language, T> result = new LinkedHashMap<>();
+            for(Language language : languages) result.put(language, translation.get(language));
+            return result;
+        }
+
+        @Nonnull
+        public Map<Language, String> getTranslationAcrossLanguages(@Nonnull String simpleKey, @Nonnull Collection<Language> languages){ return getTranslationAcrossLanguages(simpleKey, Translation.Type.STRING, languages); }
+
         // GET TRANSLATIONS STRINGS
 
         @Nonnull
@@ -863,6 +1381,14 @@ public class LanguagesAPI implements Listener{
         @Nonnull
         public String getTranslationString(@Nonnull String simpleKey){ return getTranslationString(simpleKey, (Language) null); }
 
+        @Nonnull public String getTranslationString(@Nonnull TranslationKey<String> key, @Nullable Language language){ return key.get(language); }
+
+        @Nonnull public String getTranslationString(@Nonnull TranslationKey<String> key, @Nonnull Player player){ return key.get(player); }
+
+        @Nonnull public String getTranslationString(@Nonnull TranslationKey<String> key, @Nonnull CommandSender commandSender){ return key.get(commandSender); }
+
+        @Nonnull public String getTranslationString(@Nonnull TranslationKey<String> key){ return key.get((Language) null); }
+
         // GET TRANSLATION LISTS
 
         public boolean isListTranslation(@Nonnull String simpleKey) { return isTranslationType(grabTranslationType(simpleKey).orElse(null), Translation.Type.LIST); }
@@ -886,6 +1412,12 @@ public class LanguagesAPI implements Listener{
         @Nonnull
         public List<String> getTranslationList(@Nonnull String simpleKey){ return getTranslationList(simpleKey, (Language) null); }
 
+        @Nonnull public List<String> getTranslationList(@Nonnull TranslationKey<List<String>> key, @Nullable Language language){ return key.get(language); }
+
+        @Nonnull public List<String> getTranslationList(@Nonnull TranslationKey<List<String>> key, @Nonnull Player player){ return key.get(player); }
+
+        @Nonnull public List<String> getTranslationList(@Nonnull TranslationKey<List<String>> key){ return key.get((Language) null); }
+
         // GET FUTURE TRANSLATIONS
 
         @Nonnull
@@ -906,13 +1438,24 @@ public class LanguagesAPI implements Listener{
          * @return the new translation instance or {@code null} if the simpleKey is used yet.
          */
         public <T> Translation<T> createTranslation(String simpleKey, Translation.Type<T> type){
-            if(hasTranslation(simpleKey)) return null;
-            return translations.put(simpleKey.toLowerCase(), new Translation(this, simpleKey, type));
+            Validate.notNull(simpleKey, "Translation simpleKey cannot be null.");
+            Validate.notNull(type, "Type cannot be null");
+            String key = normalizeKey(simpleKey);
+            if(translations.containsKey(key)) return null;
+            Translation<T>[] created = new Translation[1];
+            translations.computeIfAbsent(key, x-> created[0] = new Translation<>(this, x, type));
+            return created[0];
         }
 
         public <T> Translation.Unmodifiable<T> createUnmodifiableTranslation(String simpleKey, Translation.Type<T> type){
-            if(hasTranslation(simpleKey)) throw new IllegalStateException("This translation is already created.");
-            return (Translation.Unmodifiable<T>) translations.put(simpleKey.toLowerCase(), new Translation.Unmodifiable(this, simpleKey, type));
+            Validate.notNull(simpleKey, "Translation simpleKey cannot be null.");
+            Validate.notNull(type, "Type cannot be null");
+            String key = normalizeKey(simpleKey);
+            if(translations.containsKey(key)) throw new IllegalStateException("This translation is already created.");
+            Translation.Unmodifiable<T>[] created = new Translation.Unmodifiable[1];
+            translations.computeIfAbsent(key, x-> created[0] = new Translation.Unmodifiable<>(this, x, type));
+            if(created[0] == null) throw new IllegalStateException("This translation is already created.");
+            return created[0];
         }
 
         public <T> void setTranslation(Language language, String simpleKey, Translation.Type<T> type, T msg){ getTranslation(simpleKey, type).set(language, msg); }
@@ -925,6 +1468,11 @@ public class LanguagesAPI implements Listener{
             DEFAULT TRANSLATIONS
          */
 
+        /**
+         * Sets the default value of a translation, kept only if the translation has no value in that language. Every call
+         * publishes a new snapshot, so when setting many defaults one by one wrap the loop in {@link #batch(Runnable)}, or
+         * use {@link #setDefaultTranslations(Language, HashMap)}, to publish them once.
+         */
         public <T> void setDefaultTranslation(Language language, String simpleKey, Translation.Type<T> type, T msg){ getTranslation(simpleKey, type).setDefault(language, msg); }
 
         public void setDefaultTranslationString(Language language, String simpleKey, String msg){ setDefaultTranslation(language, simpleKey, Translation.Type.STRING, msg); }
@@ -935,7 +1483,15 @@ public class LanguagesAPI implements Listener{
 
         public void setDefaultTranslationList(String simpleKey, List<String> msg){ setDefaultTranslationList(defaultLanguage, simpleKey, msg); }
 
-        public void setDefaultTranslations(Language language, @Nonnull HashMap<String, Object> translations){ translations.entrySet().forEach(x-> Translation.Type.grabTypeByObject(x.getValue()).ifPresent(t -> setDefaultTranslation(language, x.getKey(), t, x.getValue()))); }
+        public void setDefaultTranslations(Language language, @Nonnull HashMap<String, Object> translations){
+            batch(() -> translations.entrySet().forEach(x-> {
+                Object value = x.getValue();
+                Translation translation = this.translations.get(normalizeKey(x.getKey()));
+                if(translation != null && translation.getType().equals(Translation.Type.MESSAGE_FORMAT) && value instanceof String string) value = TranslationMessage.of(string);
+                Object finalValue = value;
+                Translation.Type.grabTypeByObject(value).ifPresent(t -> setDefaultTranslation(language, x.getKey(), t, finalValue));
+            }));
+        }
 
         public void setDefaultTranslations(HashMap<String, Object> translations){ setDefaultTranslations(defaultLanguage, translations); }
 
@@ -974,19 +1530,29 @@ public class LanguagesAPI implements Listener{
         }
 
         public void setDefaultTranslation(@Nonnull Language language, String simpleKey, FileConfiguration fileConfiguration, String configKey){
-            Translation.Type.grabTypeFromYAML(fileConfiguration, configKey).ifPresent(type -> setDefaultTranslation(language, simpleKey, type, type.fromYAML(fileConfiguration, configKey)));
+            grabTypeFromYAML(simpleKey, fileConfiguration, configKey).ifPresent(type -> setDefaultTranslation(language, simpleKey, type, type.fromYAML(fileConfiguration, configKey)));
         }
 
         public void setDefaultTranslations(FileConfiguration fileConfiguration){ setDefaultTranslations(defaultLanguage, fileConfiguration); }
 
         public void setDefaultTranslations(Language language, ConfigurationSection section){
             HashMap<String, Object> defaults = new HashMap<>();
-            for(String s : section.getKeys(true)) Translation.Type.grabTypeFromYAML(section, s).ifPresent(type -> defaults.put(s, type.fromYAML(section, s)));
+            for(String s : section.getKeys(true)) grabTypeFromYAML(s, section, s).ifPresent(type -> defaults.put(s, type.fromYAML(section, s)));
             setDefaultTranslations(language, defaults);
         }
 
         public void setDefaultTranslations(ConfigurationSection section) { setDefaultTranslations(defaultLanguage, section); }
 
+        /**
+         * Gets the type of a YAML value, preferring the type of the translation if it's already created, since some
+         * types (like {@link Translation.Type#MESSAGE_FORMAT}) are stored as plain text and are not detected.
+         */
+        private Optional<Translation.Type> grabTypeFromYAML(String simpleKey, ConfigurationSection section, String path){
+            Translation translation = translations.get(normalizeKey(simpleKey));
+            if(translation != null && translation.getType().isType(section, path)) return Optional.of(translation.getType());
+            return Translation.Type.grabTypeFromYAML(section, path);
+        }
+
     }
 
 }
@@ -0,0 +1,74 @@
+package dev.sergiferry.languages.api;
+
+import org.apache.commons.lang.Validate;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Currency;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Placeholder argument that is formatted in the language the translation is rendered in, with the cached
+ * {@link LanguageFormats} of that language. It can be given to {@link Translation#format(Language, Object...)},
+ * {@link Translation#render(Language, TranslationArgs)} and {@link Translation#formatMessage(Language, TranslationArgs)}.
+ *
+ * <pre>{@code
+ * translation.render(language, TranslationArgs.local().set("balance", LocalizedArgument.currency(balance)));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface LocalizedArgument {
+
+    /**
+     * @param language Language the translation is rendered in
+     * @return the argument formatted for that language
+     */
+    @Nonnull String format(@Nonnull Language language);
+
+    @Nonnull
+    static LocalizedArgument number(@Nonnull Number number){
+        Validate.notNull(number, "Number cannot be null.");
+        return language -> LanguageFormats.of(language).formatNumber(number);
+    }
+
+    @Nonnull
+    static LocalizedArgument percent(@Nonnull Number number){
+        Validate.notNull(number, "Number cannot be null.");
+        return language -> LanguageFormats.of(language).formatPercent(number);
+    }
+
+    @Nonnull
+    static LocalizedArgument currency(@Nonnull Number amount){
+        Validate.notNull(amount, "Amount cannot be null.");
+        return language -> LanguageFormats.of(language).formatCurrency(amount);
+    }
+
+    @Nonnull
+    static LocalizedArgument currency(@Nonnull Number amount, @Nonnull Currency currency){
+        Validate.notNull(amount, "Amount cannot be null.");
+        Validate.notNull(currency, "Currency cannot be null.");
+        return language -> LanguageFormats.of(language).formatCurrency(amount, currency);
+    }
+
+    @Nonnull
+    static LocalizedArgument duration(@Nonnull Duration duration){
+        Validate.notNull(duration, "Duration cannot be null.");
+        return language -> LanguageFormats.of(language).formatDuration(duration);
+    }
+
+    @Nonnull
+    static LocalizedArgument date(@Nonnull TemporalAccessor date, @Nonnull FormatStyle style){
+        Validate.notNull(date, "Date cannot be null.");
+        return language -> LanguageFormats.of(language).formatDate(date, style);
+    }
+
+    @Nonnull
+    static LocalizedArgument dateTime(@Nonnull Instant instant, @Nonnull FormatStyle style){
+        Validate.notNull(instant, "Instant cannot be null.");
+        return language -> LanguageFormats.of(language).formatDateTime(instant, style);
+    }
+}
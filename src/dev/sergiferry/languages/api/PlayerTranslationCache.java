@@ -0,0 +1,76 @@
+package dev.sergiferry.languages.api;
+
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Cache of an online player, created when their language is loaded and dropped when they quit. It keeps the
+ * resolved language of the player, so {@link LanguagesAPI#getLanguage(Player)} does not repeat the selected and
+ * client language lookups, and the values already rendered for the player by {@link Translation#get(Player)}.
+ * <p>
+ * Rendered values are stamped with the language and the render version of the translation, so a language change or
+ * a translation update makes them stale without walking every player. Values with PlaceholderAPI placeholders
+ * can also expire after the cache time of their plugin. Both are also dropped on
+ * {@code PlayerLanguageChangeEvent} and {@code PlayerLanguageLoadEvent}.
+ */
+final class PlayerTranslationCache {
+
+    /**
+     * @param locale Client locale the language was resolved from, or {@code null} if the player selected it
+     */
+    private record Resolved(@Nullable String locale, Language language){ }
+
+    /**
+     * @param expiration Time in milliseconds when the value expires, or 0 if it does not
+     */
+    private record Rendered(Language language, int version, Object value, long expiration){ }
+
+    private final Map<Translation<?>, Rendered> rendered;
+    private volatile Resolved resolved;
+
+    PlayerTranslationCache(){ this.rendered = new ConcurrentHashMap<>(); }
+
+    /**
+     * @return the cached language, or {@code null} if it is not resolved or the client locale changed since then
+     */
+    @Nullable
+    Language getLanguage(@Nonnull Player player){
+        Resolved resolved = this.resolved;
+        if(resolved == null) return null;
+        if(resolved.locale() != null && !resolved.locale().equals(player.getLocale())) return null;
+        return resolved.language();
+    }
+
+    void setLanguage(@Nullable String locale, @Nonnull Language language){ this.resolved = new Resolved(locale, language); }
+
+    /**
+     * @param version Render version of the translation, read before rendering
+     * @return the value rendered for that language and version, or {@code null}
+     */
+    @Nullable
+    <T> T get(@Nonnull Translation<T> translation, @Nonnull Language language, int version){
+        Rendered cached = rendered.get(translation);
+        if(cached == null || cached.language() != language || cached.version() != version) return null;
+        if(cached.expiration() != 0 && System.currentTimeMillis() >= cached.expiration()){
+            rendered.remove(translation, cached);
+            return null;
+        }
+        return (T) cached.value();
+    }
+
+    /**
+     * @param expiration Time in milliseconds when the value expires, or 0 if it does not
+     */
+    <T> void put(@Nonnull Translation<T> translation, @Nonnull Language language, int version, @Nonnull T value, long expiration){ rendered.put(translation, new Rendered(language, version, value, expiration)); }
+
+    void invalidate(){
+        resolved = null;
+        rendered.clear();
+    }
+}
@@ -0,0 +1,341 @@
+package dev.sergiferry.languages.api;
+
+import org.apache.commons.lang.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * CLDR plural rules, cardinal ({@code plural}) and ordinal ({@code selectordinal}), selected by the language code of a
+ * {@link Language}. The rules of each language are resolved once and kept by language index. Languages without CLDR
+ * data use the English cardinal rule and no ordinal forms.
+ */
+public final class PluralRules {
+
+    public enum Category { ZERO, ONE, TWO, FEW, MANY, OTHER;
+
+        private final String keyword = name().toLowerCase();
+
+        @Nonnull public String getKeyword() { return keyword; }
+
+        @Nullable
+        public static Category grabCategory(@Nonnull String keyword){
+            for(Category category : values()) if(category.keyword.equals(keyword)) return category;
+            return null;
+        }
+    }
+
+    private interface Rule { Category select(Operands o); }
+
+    private static final Map<String, Rule> CARDINAL = new HashMap<>();
+    private static final Map<String, Rule> ORDINAL = new HashMap<>();
+    private static final Rule OTHER = o -> Category.OTHER;
+    private static final Rule ONE_INTEGER = o -> o.i == 1 && o.v == 0 ? Category.ONE : Category.OTHER;
+
+    private static volatile PluralRules[] cardinalByIndex = new PluralRules[0];
+    private static volatile PluralRules[] ordinalByIndex = new PluralRules[0];
+
+    static{
+        Rule oneN = o -> o.n() == 1 ? Category.ONE : Category.OTHER;
+        Rule romance = o -> o.i != 0 && o.i % 1000000 == 0 && o.v == 0 ? Category.MANY : null;
+        Rule slavic = o -> {
+            if(o.v != 0) return Category.OTHER;
+            long i10 = o.i % 10, i100 = o.i % 100;
+            if(i10 == 1 && i100 != 11) return Category.ONE;
+            if(in(i10, 2, 4) && !in(i100, 12, 14)) return Category.FEW;
+            return Category.MANY;
+        };
+        Rule serbian = o -> {
+            long i10 = o.i % 10, i100 = o.i % 100, f10 = o.f % 10, f100 = o.f % 100;
+            if(o.v == 0 && i10 == 1 && i100 != 11 || f10 == 1 && f100 != 11) return Category.ONE;
+            if(o.v == 0 && in(i10, 2, 4) && !in(i100, 12, 14) || in(f10, 2, 4) && !in(f100, 12, 14)) return Category.FEW;
+            return Category.OTHER;
+        };
+        Rule czech = o -> {
+            if(o.v != 0) return Category.MANY;
+            if(o.i == 1) return Category.ONE;
+            if(in(o.i, 2, 4)) return Category.FEW;
+            return Category.OTHER;
+        };
+        Rule hindi = o -> o.i == 0 || o.n() == 1 ? Category.ONE : Category.OTHER;
+        Rule zeroOrOne = o -> o.i == 0 || o.i == 1 ? Category.ONE : Category.OTHER;
+
+        cardinal(OTHER, "bo", "id", "ig", "ja", "jbo", "jv", "km", "ko", "lo", "lzh", "ms", "my", "sah", "th", "tok", "vi", "yo", "zh", "zlm");
+        cardinal(ONE_INTEGER, "ast", "de", "en", "ang", "sha", "et", "fi", "fy", "gl", "ia", "io", "nl", "sc", "sv", "sw", "ur", "yi", "li", "lmo", "vec", "bar", "swg", "sxu", "ksh", "nds", "vmf", "brb", "fra");
+        cardinal(oneN, "af", "az", "ba", "bg", "el", "eo", "eu", "fo", "fur", "haw", "hu", "ka", "kk", "lb", "ml", "mn", "nb", "nn", "no", "so", "sq", "ta", "te", "tk", "tr", "tt", "uz");
+        cardinal(o -> { Category many = romance.select(o); return many != null ? many : oneN.select(o); }, "es", "and", "val");
+        cardinal(o -> { Category many = romance.select(o); return many != null ? many : ONE_INTEGER.select(o); }, "ca", "it", "oc");
+        cardinal(o -> { Category many = romance.select(o); return many != null ? many : zeroOrOne.select(o); }, "fr", "pt");
+        cardinal(slavic, "ru", "uk", "be", "ry", "rpr");
+        cardinal(serbian, "hr", "sr", "bs", "sh");
+        cardinal(czech, "cs", "sk");
+        cardinal(hindi, "am", "bn", "fa", "gu", "hi", "kn", "zu");
+        cardinal(zeroOrOne, "ff", "hy", "kab");
+        cardinal(o -> o.n() == 1 || o.t != 0 && (o.i == 0 || o.i == 1) ? Category.ONE : Category.OTHER, "da");
+        cardinal(o -> o.t == 0 && o.i % 10 == 1 && o.i % 100 != 11 || o.t % 10 == 1 && o.t % 100 != 11 ? Category.ONE : Category.OTHER, "is");
+        cardinal(o -> o.v == 0 && o.i % 10 == 1 && o.i % 100 != 11 || o.f % 10 == 1 && o.f % 100 != 11 ? Category.ONE : Category.OTHER, "mk");
+        cardinal(o -> o.v == 0 && (o.i == 1 || o.i == 2 || o.i == 3) || o.v == 0 && !isAny(o.i % 10, 4, 6, 9) || o.v != 0 && !isAny(o.f % 10, 4, 6, 9) ? Category.ONE : Category.OTHER, "fil", "tl");
+        cardinal(o -> {
+            if(o.v != 0) return Category.OTHER;
+            long i10 = o.i % 10, i100 = o.i % 100;
+            if(o.i == 1) return Category.ONE;
+            if(in(i10, 2, 4) && !in(i100, 12, 14)) return Category.FEW;
+            return Category.MANY;
+        }, "pl", "szl");
+        cardinal(o -> {
+            if(o.v != 0) return Category.FEW;
+            long i100 = o.i % 100;
+            if(i100 == 1) return Category.ONE;
+            if(i100 == 2) return Category.TWO;
+            if(in(i100, 3, 4)) return Category.FEW;
+            return Category.OTHER;
+        }, "sl");
+        cardinal(o -> {
+            if(o.f != 0) return Category.MANY;
+            long n10 = o.n() % 10, n100 = o.n() % 100;
+            if(n10 == 1 && !in(n100, 11, 19)) return Category.ONE;
+            if(in(n10, 2, 9) && !in(n100, 11, 19)) return Category.FEW;
+            return Category.OTHER;
+        }, "lt");
+        cardinal(o -> {
+            long n10 = o.n() % 10, n100 = o.n() % 100, f10 = o.f % 10, f100 = o.f % 100;
+            if(n10 == 0 || in(n100, 11, 19) || o.v == 2 && in(f100, 11, 19)) return Category.ZERO;
+            if(n10 == 1 && n100 != 11 || o.v == 2 && f10 == 1 && f100 != 11 || o.v != 2 && f10 == 1) return Category.ONE;
+            return Category.OTHER;
+        }, "lv");
+        cardinal(o -> {
+            if(o.i == 1 && o.v == 0) return Category.ONE;
+            if(o.v != 0 || o.n() == 0 || in(o.n() % 100, 1, 19)) return Category.FEW;
+            return Category.OTHER;
+        }, "ro", "mo");
+        cardinal(o -> {
+            long n = o.n(), n100 = n % 100;
+            if(n == 0) return Category.ZERO;
+            if(n == 1) return Category.ONE;
+            if(n == 2) return Category.TWO;
+            if(in(n100, 3, 10)) return Category.FEW;
+            if(in(n100, 11, 99)) return Category.MANY;
+            return Category.OTHER;
+        }, "ar");
+        cardinal(o -> {
+            if(o.i == 1 && o.v == 0 || o.i == 0 && o.v != 0) return Category.ONE;
+            if(o.i == 2 && o.v == 0) return Category.TWO;
+            return Category.OTHER;
+        }, "he", "iw");
+        cardinal(o -> {
+            long n = o.n();
+            if(n == 1) return Category.ONE;
+            if(n == 2) return Category.TWO;
+            if(in(n, 3, 6)) return Category.FEW;
+            if(in(n, 7, 10)) return Category.MANY;
+            return Category.OTHER;
+        }, "ga");
+        cardinal(o -> {
+            long n = o.n();
+            if(n == 1 || n == 11) return Category.ONE;
+            if(n == 2 || n == 12) return Category.TWO;
+            if(in(n, 3, 10) || in(n, 13, 19)) return Category.FEW;
+            return Category.OTHER;
+        }, "gd");
+        cardinal(o -> {
+            long n = o.n();
+            if(n == 0) return Category.ZERO;
+            if(n == 1) return Category.ONE;
+            if(n == 2) return Category.TWO;
+            if(n == 3) return Category.FEW;
+            if(n == 6) return Category.MANY;
+            return Category.OTHER;
+        }, "cy");
+        cardinal(o -> {
+            long n = o.n(), n100 = n % 100;
+            if(n == 1) return Category.ONE;
+            if(n == 2) return Category.TWO;
+            if(n == 0 || in(n100, 3, 10)) return Category.FEW;
+            if(in(n100, 11, 19)) return Category.MANY;
+            return Category.OTHER;
+        }, "mt");
+        cardinal(o -> {
+            long n = o.n(), n10 = n % 10, n100 = n % 100;
+            if(n10 == 1 && !isAny(n100, 11, 71, 91)) return Category.ONE;
+            if(n10 == 2 && !isAny(n100, 12, 72, 92)) return Category.TWO;
+            if((in(n10, 3, 4) || n10 == 9) && !in(n100, 10, 19) && !in(n100, 70, 79) && !in(n100, 90, 99)) return Category.FEW;
+            if(n > 0 && n % 1000000 == 0) return Category.MANY;
+            return Category.OTHER;
+        }, "br");
+
+        ordinal(o -> {
+            long n10 = o.n() % 10, n100 = o.n() % 100;
+            if(n10 == 1 && n100 != 11) return Category.ONE;
+            if(n10 == 2 && n100 != 12) return Category.TWO;
+            if(n10 == 3 && n100 != 13) return Category.FEW;
+            return Category.OTHER;
+        }, "en");
+        ordinal(oneN, "fr", "fil", "tl", "ga", "hy", "lo", "ms", "ro", "mo", "vi");
+        ordinal(o -> {
+            long n = o.n();
+            if(n == 1 || n == 3) return Category.ONE;
+            if(n == 2) return Category.TWO;
+            if(n == 4) return Category.FEW;
+            return Category.OTHER;
+        }, "ca", "val");
+        ordinal(o -> isAny(o.n(), 11, 8, 80, 800) ? Category.MANY : Category.OTHER, "it", "sc", "vec");
+        ordinal(o -> isAny(o.n() % 10, 1, 2) && !isAny(o.n() % 100, 11, 12) ? Category.ONE : Category.OTHER, "sv");
+        ordinal(o -> o.n() == 1 || o.n() == 5 ? Category.ONE : Category.OTHER, "hu");
+        ordinal(o -> {
+            long n = o.n();
+            if(isAny(n, 0, 7, 8, 9)) return Category.ZERO;
+            if(n == 1) return Category.ONE;
+            if(n == 2) return Category.TWO;
+            if(n == 3 || n == 4) return Category.FEW;
+            if(n == 5 || n == 6) return Category.MANY;
+            return Category.OTHER;
+        }, "cy");
+        ordinal(o -> {
+            long n10 = o.n() % 10;
+            return n10 == 6 || n10 == 9 || n10 == 0 && o.n() > 0 ? Category.MANY : Category.OTHER;
+        }, "kk");
+        ordinal(o -> {
+            long i10 = o.i % 10, i100 = o.i % 100;
+            if(i10 == 1 && i100 != 11) return Category.ONE;
+            if(i10 == 2 && i100 != 12) return Category.TWO;
+            if((i10 == 7 || i10 == 8) && i100 != 17 && i100 != 18) return Category.MANY;
+            return Category.OTHER;
+        }, "mk");
+    }
+
+    private static void cardinal(Rule rule, String... codes){ for(String code : codes) CARDINAL.put(code, rule); }
+
+    private static void ordinal(Rule rule, String... codes){ for(String code : codes) ORDINAL.put(code, rule); }
+
+    private static boolean in(long value, long from, long to){ return value >= from && value <= to; }
+
+    private static boolean isAny(long value, long... values){
+        for(long v : values) if(v == value) return true;
+        return false;
+    }
+
+    private final String code;
+    private final boolean ordinal;
+    private final Rule rule;
+
+    private PluralRules(String code, boolean ordinal, Rule rule){
+        this.code = code;
+        this.ordinal = ordinal;
+        this.rule = rule;
+    }
+
+    /**
+     * @param language Language, or {@code null} for the English rules
+     * @return cardinal rules of that language, used by {@code plural}
+     */
+    @Nonnull
+    public static PluralRules cardinal(@Nullable Language language){ return forLanguage(language, false); }
+
+    /**
+     * @param language Language, or {@code null} for the English rules
+     * @return ordinal rules of that language, used by {@code selectordinal}
+     */
+    @Nonnull
+    public static PluralRules ordinal(@Nullable Language language){ return forLanguage(language, true); }
+
+    private static PluralRules forLanguage(Language language, boolean ordinal){
+        if(language == null) return create("en", ordinal);
+        PluralRules[] rules = ordinal ? ordinalByIndex : cardinalByIndex;
+        int index = language.getIndex();
+        if(index < rules.length && rules[index] != null) return rules[index];
+        return resolve(language, ordinal);
+    }
+
+    private static synchronized PluralRules resolve(Language language, boolean ordinal){
+        PluralRules[] rules = ordinal ? ordinalByIndex : cardinalByIndex;
+        int index = language.getIndex();
+        if(index >= rules.length) rules = Arrays.copyOf(rules, Math.max(index + 1, Language.getIndexedCount()));
+        else rules = rules.clone();
+        String code = language.getLocaleCode().toLowerCase();
+        if(code.equals("pt_pt") && !ordinal) rules[index] = new PluralRules(code, false, o -> o.i != 0 && o.i % 1000000 == 0 && o.v == 0 ? Category.MANY : ONE_INTEGER.select(o));
+        else rules[index] = create(code, ordinal);
+        if(ordinal) ordinalByIndex = rules;
+        else cardinalByIndex = rules;
+        return rules[index];
+    }
+
+    private static PluralRules create(String code, boolean ordinal){
+        int separator = code.indexOf('_');
+        String languageCode = separator == -1 ? code : code.substring(0, separator);
+        Rule rule = (ordinal ? ORDINAL : CARDINAL).get(languageCode);
+        if(rule == null) rule = ordinal ? OTHER : ONE_INTEGER;
+        return new PluralRules(code, ordinal, rule);
+    }
+
+    /**
+     * @param number Number, its written form decides the visible fraction digits ({@code 1} and {@code 1.0} can differ)
+     * @return plural category of that number
+     */
+    @Nonnull
+    public Category select(@Nonnull Number number){
+        Validate.notNull(number, "Number cannot be null.");
+        return rule.select(Operands.of(number));
+    }
+
+    /**
+     * @param number Integer number
+     * @return plural category of that number
+     */
+    @Nonnull
+    public Category select(long number){ return rule.select(Operands.of(number)); }
+
+    public boolean isOrdinal() { return ordinal; }
+
+    @Override public String toString() { return code + (ordinal ? " ordinal" : " cardinal"); }
+
+    /**
+     * CLDR plural operands: {@code i} integer digits, {@code v} visible fraction digits count, {@code f} visible
+     * fraction digits and {@code t} visible fraction digits without trailing zeros. Integer digits that do not fit
+     * keep their last nine digits, which is all the rules look at.
+     */
+    private record Operands(long i, int v, long f, long t){
+
+        /**
+         * @return the value of n if it is an integer, or -1 that never matches a rule value
+         */
+        long n(){ return t == 0 ? i : -1; }
+
+        static Operands of(long number){
+            if(number == Long.MIN_VALUE) return ofInteger(BigInteger.valueOf(number).abs());
+            return new Operands(Math.abs(number), 0, 0, 0);
+        }
+
+        static Operands of(Number number){
+            if(number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte || number instanceof AtomicInteger || number instanceof AtomicLong) return of(number.longValue());
+            if(number instanceof BigInteger bigInteger) return ofInteger(bigInteger.abs());
+            if(number instanceof Double || number instanceof Float){
+                double value = number.doubleValue();
+                if(Double.isNaN(value) || Double.isInfinite(value)) return new Operands(0, 1, 1, 1);
+            }
+            BigDecimal decimal = number instanceof BigDecimal bigDecimal ? bigDecimal : new BigDecimal(number.toString());
+            decimal = decimal.abs();
+            if(decimal.scale() <= 0) return ofInteger(decimal.toBigInteger());
+            String plain = decimal.toPlainString();
+            int point = plain.indexOf('.');
+            String fraction = plain.substring(point + 1);
+            if(fraction.length() > 18) fraction = fraction.substring(0, 18);
+            String trimmed = fraction.replaceAll("0+$", "");
+            Operands integer = ofInteger(decimal.toBigInteger());
+            return new Operands(integer.i, fraction.length(), Long.parseLong(fraction), trimmed.isEmpty() ? 0 : Long.parseLong(trimmed));
+        }
+
+        private static Operands ofInteger(BigInteger integer){
+            if(integer.bitLength() < 63) return of(integer.longValue());
+            return new Operands(1_000_000_000L + integer.mod(BigInteger.valueOf(1_000_000_000L)).longValue(), 0, 0, 0);
+        }
+    }
+}
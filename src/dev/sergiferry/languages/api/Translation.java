@@ -8,6 +8,9 @@ import dev.sergiferry.languages.integration.IntegrationsManager;
 import dev.sergiferry.languages.storage.Database;
 import dev.sergiferry.languages.utils.StringUtils;
 import dev.sergiferry.languages.utils.TriConsumer;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import net.md_5.bungee.chat.ComponentSerializer;
 import org.apache.commons.lang.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.Keyed;
@@ -21,20 +24,18 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Creado por SergiFerry el 24/08/2022
  */
 public class Translation<T> implements Supplier<T>, Keyed {
 
-    private final static Pattern PLACEHOLDER_NAME_PATTERN = Pattern.compile("([^\\s{}]+)");
-    private final static Pattern PLACEHOLDER_PATTERN = Pattern.compile("[{]" + PLACEHOLDER_NAME_PATTERN.pattern() + "}");
-
     public static class Type<T> {
 
         private static final Map<String, Type> TYPE_BY_NAME;
@@ -49,7 +50,7 @@ public class Translation<T> implements Supplier<T>, Keyed {
         public static Optional<Type> grabTypeByClass(Class c){ return TYPE_BY_CLASS.keySet().stream().filter(x-> x.isAssignableFrom(c)).map(x-> TYPE_BY_CLASS.get(x)).findFirst(); }
         public static Optional<Type> grabTypeByName(@Nonnull String s){ return Optional.ofNullable(TYPE_BY_NAME.getOrDefault(s.toUpperCase(), null)); }
 
-        public static Optional<Type> grabTypeFromYAML(ConfigurationSection section, String key){ return TYPE_BY_NAME.values().stream().filter(x-> x.isType(section, key)).findFirst(); }
+        public static Optional<Type> grabTypeFromYAML(ConfigurationSection section, String key){ return TYPE_BY_NAME.values().stream().filter(x-> x.detectedFromYAML && x.isType(section, key)).findFirst(); }
 
         public static final Type<String> STRING = new Type<>(
                 String.class,
@@ -104,9 +105,34 @@ public class Translation<T> implements Supplier<T>, Keyed {
                     return list;
                 }
         );
+        /**
+         * ICU style message with plural, ordinal and select forms, see {@link TranslationMessage}. It is stored as a
+         * text, so it is not detected from YAML files: the translation must be created with this type first.
+         */
+        public static final Type<TranslationMessage> MESSAGE_FORMAT = new Type<>(
+                TranslationMessage.class,
+                "MESSAGE_FORMAT",
+                false,
+                true,
+                message -> message.getPattern(),
+                string -> TranslationMessage.of(string),
+                message -> message,
+                message -> message.isEmpty(),
+                (message, section, key) -> section.set(key, message == null ? "" : message.getPattern().replaceAll("§", "&")),
+                (section, key) -> TranslationMessage.of(section.getString(key)),
+                (section, key) -> section.isString(key),
+                message -> message.getPattern(),
+                message -> {
+                    JsonArray array = new JsonArray();
+                    array.add(message.getPattern());
+                    return array;
+                },
+                array -> TranslationMessage.of(array.get(0).getAsString())
+        );
 
         private Class<T> typeClass;
         private String name;
+        private boolean detectedFromYAML;
         private boolean containsText;
         private Function<T, String> toString;
         private Function<String, T> fromString;
@@ -132,9 +158,29 @@ public class Translation<T> implements Supplier<T>, Keyed {
                 Function<T, String> toYMLComment,
                 Function<T, JsonArray> toJson,
                 Function<JsonArray, T> fromJson
+        ){
+            this(typeClass, typeClass.getSimpleName().toUpperCase(), true, containsText, toString, fromString, clone, isEmpty, toYML, fromYML, typeFromYML, toYMLComment, toJson, fromJson);
+        }
+
+        private Type(
+                Class<T> typeClass,
+                String name,
+                boolean detectedFromYAML,
+                boolean containsText,
+                Function<T, String> toString,
+                Function<String, T> fromString,
+                Function<T, T> clone,
+                Function<T, Boolean> isEmpty,
+                TriConsumer<T, ConfigurationSection, String> toYML,
+                BiFunction<ConfigurationSection, String, T> fromYML,
+                BiFunction<ConfigurationSection, String, Boolean> typeFromYML,
+                Function<T, String> toYMLComment,
+                Function<T, JsonArray> toJson,
+                Function<JsonArray, T> fromJson
         ){
             this.typeClass = typeClass;
-            this.name = typeClass.getSimpleName().toUpperCase();
+            this.name = name;
+            this.detectedFromYAML = detectedFromYAML;
             this.containsText = containsText;
             this.clone = clone;
             this.isEmpty = isEmpty;
@@ -183,40 +229,106 @@ public class Translation<T> implements Supplier<T>, Keyed {
     }
 
     private final LanguagesAPI.PluginManager pluginManager;
-    private final Map<Language, T> values;
     private final NamespacedKey key;
     private final Type<T> type;
     private final List<Placeholder> placeholders;
+    private final int slot;
+    private final TranslationKey<T> translationKey;
+    private final Map<Language, Rendered<T>> rendered;
+    private final AtomicInteger renderVersion;
+    private volatile Rendered<T> renderedWithoutLanguage;
 
     protected Translation(LanguagesAPI.PluginManager pluginManager, String simpleKey, Type<T> type) {
         this.pluginManager = pluginManager;
         this.key = new NamespacedKey(pluginManager.getPlugin(), simpleKey);
-        this.values = new HashMap<>();
         this.type = type;
         this.placeholders = new ArrayList<>();
+        this.slot = pluginManager.registerTranslation(this);
+        this.translationKey = new TranslationKey<>(this);
+        this.rendered = new ConcurrentHashMap<>();
+        this.renderVersion = new AtomicInteger();
     }
 
     public void setDefault(@Nonnull Language language, @Nonnull T value){
-        values.putIfAbsent(language, value);
-        if(language.equals(pluginManager.getDefaultLanguage())) checkPlaceholders(type.toString.apply(value));
+        Entry<T> entry = createEntry(value);
+        pluginManager.putEntry(this, language, entry, false);
+        if(language.equals(pluginManager.getDefaultLanguage()) && checkPlaceholders(entry)) pluginManager.invalidate(this);
     }
 
-    private void checkPlaceholders(String string){
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(string);
-        while (matcher.find()) {
-            String placeholderWithBrackets = matcher.group();
-            String placeholderWithoutBrackets = placeholderWithBrackets.substring(1, placeholderWithBrackets.length()-1);
-            int startIndex = matcher.start();
-            if(startIndex >= 2 && string.substring(startIndex - 2, startIndex).equals("$T")) continue;
-            if(startIndex >= 3 && string.substring(startIndex - 3, startIndex).equals("$MC")) continue;
-            if(!placeholders.contains(placeholderWithoutBrackets)) placeholders.add(new Placeholder(placeholderWithoutBrackets, Placeholder.Type.STRING));
+    private boolean checkPlaceholders(Entry<T> entry){
+        if(entry.value() instanceof TranslationMessage message){
+            boolean added = false;
+            for(String tag : message.getArguments()){
+                if(getPlaceholderIndex(tag) != -1) continue;
+                placeholders.add(new Placeholder(tag, Placeholder.Type.STRING));
+                added = true;
+            }
+            return added;
         }
+        if(entry.templates() == null) return false;
+        boolean added = false;
+        for(TranslationTemplate template : entry.templates()){
+            for(String tag : template.getPlaceholderTags()){
+                if(getPlaceholderIndex(tag) != -1) continue;
+                placeholders.add(new Placeholder(tag, Placeholder.Type.STRING));
+                added = true;
+            }
+        }
+        return added;
     }
 
     public record Placeholder(String tag, Type type){
         public enum Type{ STRING }
     }
 
+    /**
+     * Stored value of a translation in one language, together with its compiled templates.
+     * Text types have one template per line, other types have {@code null} templates.
+     */
+    protected record Entry<T>(T value, @Nullable TranslationTemplate[] templates){ }
+
+    private Entry<T> createEntry(T value){
+        if(!type.containsText()) return new Entry<>(value, null);
+        TranslationTemplate[] templates = null;
+        if(type.equals(Type.STRING)) templates = new TranslationTemplate[] { TranslationTemplate.compile((String) value) };
+        else if(type.equals(Type.LIST)){
+            List<String> list = (List<String>) value;
+            templates = new TranslationTemplate[list.size()];
+            for(int i = 0; i < list.size(); i++) templates[i] = TranslationTemplate.compile(list.get(i));
+        }
+        return new Entry<>(value, templates);
+    }
+
+    /**
+     * @param snapshots Snapshots about to be published, with the new values of this translation
+     * @return the keys referenced with {@code $T{}} by this translation in any language
+     */
+    @Nonnull
+    protected Set<String> getReferences(@Nonnull LanguageArray<TranslationSnapshot> snapshots){
+        Set<String> references = new HashSet<>();
+        for(Language language : snapshots.languages()){
+            Entry<?> entry = snapshots.get(language).get(slot);
+            if(entry == null || entry.templates() == null) continue;
+            for(TranslationTemplate template : entry.templates()) references.addAll(template.getTranslationReferences());
+        }
+        return references;
+    }
+
+    /**
+     * Rendered result cached for a requested language, stamped with the render version it was created in.
+     */
+    private record Rendered<T>(int version, Result<T> result){ }
+
+    /**
+     * Drops every cached result of this translation. Use {@link LanguagesAPI.PluginManager#invalidate(Translation)}
+     * to also drop the results of the translations that reference this one with {@code $T{}}.
+     */
+    protected void invalidate(){
+        renderVersion.incrementAndGet();
+        rendered.clear();
+        renderedWithoutLanguage = null;
+    }
+
     public void set(@Nonnull Language language, @Nonnull T value){
         setCache(language, value);
         Bukkit.getScheduler().runTaskAsynchronously(pluginManager.getPlugin(), () -> {
@@ -236,11 +348,16 @@ public class Translation<T> implements Supplier<T>, Keyed {
         database.getPluginTranslationsTable().get(getKey(), language).ifPresent(array -> setCache(language, type.fromJson(array)));
     }
 
-    public void setCache(@Nonnull Language language, @Nonnull T value){ values.put(language, value); }
+    public void setCache(@Nonnull Language language, @Nonnull T value){ pluginManager.putEntry(this, language, createEntry(value), true); }
 
-    public T getCache(@Nonnull Language language){ return values.get(language); }
+    public T getCache(@Nonnull Language language){
+        Entry<T> entry = getEntry(language);
+        return entry == null ? null : entry.value();
+    }
+
+    @Nullable protected Entry<T> getEntry(@Nonnull Language language){ return pluginManager.getEntry(this, language); }
 
-    public boolean isTranslatedIn(@Nonnull Language language) { return values.containsKey(language); }
+    public boolean isTranslatedIn(@Nonnull Language language) { return getEntry(language) != null; }
 
     public boolean isTranslatedIn(@Nonnull Collection<Language> languages){ return languages.stream().filter(x-> isTranslatedIn(x)).findFirst().isPresent(); }
 
@@ -250,15 +367,167 @@ public class Translation<T> implements Supplier<T>, Keyed {
         return get();
     }
 
+    /**
+     * Gets the translation in the language of the player, with the PlaceholderAPI placeholders replaced. The value is
+     * kept in the cache of the player when it has no placeholders or the plugin declared its placeholders static,
+     * see {@link LanguagesAPI.PluginManager#setStaticPlaceholderAPI(boolean)}. Otherwise it is kept for the
+     * time set with {@link LanguagesAPI.PluginManager#setPlaceholderAPICacheTime(long, TimeUnit)}, if any.
+     */
     public T get(@Nonnull Player player) {
         Validate.notNull(player, "Player cannot be null.");
-        return (T) getResult(LanguagesAPI.getLanguage(player)).replacePlaceholderAPI(player).getFinalResult();
+        Language language = LanguagesAPI.getLanguage(player);
+        boolean placeholderAPI = IntegrationsManager.isUsingPlaceholderAPI();
+        String literal = getLiteral(language);
+        if(literal != null && (!placeholderAPI || !StringUtils.containsPlaceholderAPI(literal))) return (T) literal;
+        PlayerTranslationCache cache = LanguagesAPI.getPlayerCache(player);
+        if(cache == null) return (T) getResult(language).replacePlaceholderAPI(player).getFinalResult();
+        int version = renderVersion.get();
+        T cached = cache.get(this, language, version);
+        if(cached != null) return type.clone(cached);
+        Result<T> result = getResult(language);
+        long expiration = 0;
+        if(placeholderAPI && !pluginManager.isStaticPlaceholderAPI() && result.hasPlaceholderAPI()){
+            long cacheTime = pluginManager.getPlaceholderAPICacheTime();
+            if(cacheTime <= 0) return (T) result.replacePlaceholderAPI(player).getFinalResult();
+            expiration = System.currentTimeMillis() + cacheTime;
+        }
+        T value = (T) result.replacePlaceholderAPI(player).getFinalResult();
+        cache.put(this, language, version, value, expiration);
+        return type.clone(value);
     }
 
     public T get(@Nonnull Language language){
+        String literal = getLiteral(language);
+        if(literal != null) return (T) literal;
         return getResult(language).getFinalResult();
     }
 
+    /**
+     * Fast path for {@link Type#STRING} values without references, placeholders or color codes to resolve:
+     * returns the interned text compiled when the value was set, without allocating.
+     *
+     * @param language Requested language, or {@code null}
+     * @return literal value, or {@code null} if the value needs to be rendered
+     */
+    @Nullable
+    private String getLiteral(@Nullable Language language){
+        if(type != Type.STRING) return null;
+        Language source = pluginManager.getFallbackTable().resolve(this, language);
+        if(source == null) return null;
+        Entry<T> entry = getEntry(source);
+        if(entry == null || entry.templates() == null) return null;
+        return entry.templates()[0].getLiteral(pluginManager.isAutoColorTranslations());
+    }
+
+    /**
+     * Gets the translation with its {@code {tag}} placeholders replaced by the arguments, given in the order of
+     * {@link #getPlaceholders()}. The arguments are spliced into a format compiled once per language,
+     * without going through {@link String#formatted(Object...)}.
+     *
+     * @param language Language, or {@code null}
+     * @param args Placeholder arguments
+     * @return formatted translation
+     */
+    public T format(@Nullable Language language, @Nonnull Object... args){
+        Result<T> result = getResult(language);
+        TranslationFormat[] formats = result.getFormats();
+        if(formats == null) return result.getFinalResult();
+        if(type.equals(Type.STRING)) return (T) formats[0].format(args);
+        List<String> lines = new ArrayList<>(formats.length);
+        for(TranslationFormat format : formats) lines.add(format.format(args));
+        return (T) lines;
+    }
+
+    /**
+     * Gets the translation with its {@code {tag}} placeholders replaced by the arguments bound to each tag.
+     * Tags without an argument are kept as they are.
+     *
+     * @param language Language, or {@code null}
+     * @param args Placeholder arguments, by tag
+     * @return rendered translation
+     * @see TranslationArgs#local()
+     */
+    public T render(@Nullable Language language, @Nonnull TranslationArgs args){
+        Validate.notNull(args, "Arguments cannot be null.");
+        Result<T> result = getResult(language);
+        TranslationFormat[] formats = result.getFormats();
+        if(formats == null) return result.getFinalResult();
+        if(type.equals(Type.STRING)) return (T) formats[0].format(args);
+        List<String> lines = new ArrayList<>(formats.length);
+        for(TranslationFormat format : formats) lines.add(format.format(args));
+        return (T) lines;
+    }
+
+    /**
+     * Gets the translation as chat components. The components are built once per language and cached with the result.
+     *
+     * @param language Language, or {@code null}
+     * @return copy of the cached components, that can be modified
+     * @see Result#getComponents()
+     */
+    @Nonnull
+    public BaseComponent[] getComponents(@Nullable Language language){ return getResult(language).getComponents(); }
+
+    /**
+     * Gets the translation as chat components in the language of the player. If PlaceholderAPI is used the components
+     * are built again for the player, since the text depends on them.
+     *
+     * @param player Player
+     * @return components, that can be modified
+     */
+    @Nonnull
+    public BaseComponent[] getComponents(@Nonnull Player player){
+        Validate.notNull(player, "Player cannot be null.");
+        return getResult(LanguagesAPI.getLanguage(player)).replacePlaceholderAPI(player).getComponents();
+    }
+
+    /**
+     * @param language Language, or {@code null}
+     * @return the translation as a JSON chat component, serialized once per language
+     */
+    @Nonnull
+    public String getJson(@Nullable Language language){ return getResult(language).getJson(); }
+
+    /**
+     * Formats a {@link Type#MESSAGE_FORMAT} translation, selecting the plural and select forms with the arguments
+     * bound to each name. The message is compiled when it is stored, so this only walks the compiled forms.
+     *
+     * @param language Language, or {@code null}
+     * @param args Message arguments, by name
+     * @return formatted message
+     * @throws IllegalStateException if the translation is not a message format translation
+     */
+    @Nonnull
+    public String formatMessage(@Nullable Language language, @Nonnull TranslationArgs args){
+        Result<T> result = getMessageResult(language);
+        return ((TranslationMessage) result.replacedResult).format(this, messageLanguage(result, language), args);
+    }
+
+    /**
+     * Formats a {@link Type#MESSAGE_FORMAT} translation, with the arguments given in the order of
+     * {@link #getPlaceholders()}, or by number for numeric argument names.
+     *
+     * @param language Language, or {@code null}
+     * @param args Message arguments
+     * @return formatted message
+     * @throws IllegalStateException if the translation is not a message format translation
+     */
+    @Nonnull
+    public String formatMessage(@Nullable Language language, @Nonnull Object... args){
+        Result<T> result = getMessageResult(language);
+        return ((TranslationMessage) result.replacedResult).format(this, messageLanguage(result, language), args);
+    }
+
+    private Result<T> getMessageResult(Language language){
+        if(!type.equals(Type.MESSAGE_FORMAT)) throw new IllegalStateException("Translation " + key + " is not a " + Type.MESSAGE_FORMAT.getName() + " translation.");
+        return getResult(language);
+    }
+
+    private Language messageLanguage(Result<T> result, Language language){
+        if(!result.hasNoResult()) return result.getLanguage();
+        return language != null ? language : LanguagesAPI.getServerLanguage();
+    }
+
     public T getPlainResult(@Nonnull Language language) { return getResult(language).getPlainResult(); }
 
     public T getInServerDefaultLanguage() { return get(LanguagesAPI.getServerLanguage()); }
@@ -271,7 +540,22 @@ public class Translation<T> implements Supplier<T>, Keyed {
 
     public Function<Language, T> getFutureTranslation(){ return language -> get(language); }
 
-    public Result<T> getResult(Language language){ return new FindTask<T>(pluginManager, this,language).getResult(); }
+    /**
+     * Gets the result for that language. Results are rendered once and cached until a value, or a translation
+     * referenced with {@code $T{}}, changes; the returned result is shared and must not be modified.
+     *
+     * @param language Requested language, or {@code null}
+     * @return rendered result
+     */
+    public Result<T> getResult(Language language){
+        Rendered<T> cached = language == null ? renderedWithoutLanguage : rendered.get(language);
+        int version = renderVersion.get();
+        if(cached != null && cached.version() == version) return cached.result();
+        Rendered<T> created = new Rendered<>(version, new FindTask<T>(pluginManager, this, language).getResult());
+        if(language == null) renderedWithoutLanguage = created;
+        else rendered.put(language, created);
+        return created.result();
+    }
 
     public Result<T> getResult(Player player){ return getResult(LanguagesAPI.getLanguage(player)); }
 
@@ -281,7 +565,11 @@ public class Translation<T> implements Supplier<T>, Keyed {
 
     public Type<T> getType() { return type; }
 
-    public Set<Language> getTranslatedLanguages() { return values.keySet(); }
+    public Set<Language> getTranslatedLanguages() {
+        Set<Language> languages = new LinkedHashSet<>();
+        for(TranslationSnapshot snapshot : pluginManager.getSnapshots()) if(snapshot.contains(this)) languages.add(snapshot.getLanguage());
+        return Collections.unmodifiableSet(languages);
+    }
 
     public LanguagesAPI.PluginManager getPluginManager() {
         return pluginManager;
@@ -291,10 +579,25 @@ public class Translation<T> implements Supplier<T>, Keyed {
 
     public String getSimpleKey() { return key.getKey(); }
 
+    /**
+     * @return dense index of this translation inside its plugin
+     */
+    protected int getSlot() { return slot; }
+
     public List<Placeholder> getPlaceholders() { return placeholders; }
 
+    public int getPlaceholderIndex(@Nonnull String tag){
+        for(int i = 0; i < placeholders.size(); i++) if(placeholders.get(i).tag().equals(tag)) return i;
+        return -1;
+    }
+
     @Nonnull @Override public NamespacedKey getKey() { return key; }
 
+    /**
+     * @return the handle of this translation, see {@link LanguagesAPI.PluginManager#key(String, Type)}
+     */
+    @Nonnull public TranslationKey<T> getTranslationKey() { return translationKey; }
+
     public static class Unmodifiable<T> extends Translation<T>{
 
         protected Unmodifiable(LanguagesAPI.PluginManager pluginManager, String simpleKey, Type<T> type) { super(pluginManager, simpleKey, type); }
@@ -313,27 +616,17 @@ public class Translation<T> implements Supplier<T>, Keyed {
             this.pluginManager = pluginManager;
             this.translation = translation;
             this.initialLanguage = language;
-            Pair<Language, T> resulted = task(initialLanguage);
-            result = new Result(pluginManager, translation, resulted.getA(), resulted.getB());
+            Pair<Language, Entry<T>> resulted = task(initialLanguage);
+            result = new Result(pluginManager, translation, resulted.getA(), resulted.getB().value(), resulted.getB().templates());
         }
 
         @Nonnull
-        private Pair<Language, T> task(Language language){
-            if(language == null){
-                if(pluginManager.isFallbackToDefaultLanguage()) return new Pair<>(pluginManager.getDefaultLanguage(), (T) translation.get(pluginManager.getDefaultLanguage()));
-                if(translation.isTranslatedIn(LanguagesAPI.getServerLanguage())) return new Pair<> (LanguagesAPI.getServerLanguage(), (T) translation.get(LanguagesAPI.getServerLanguage()));
-            }
-            else{
-                if(translation.isTranslatedIn(language)) return new Pair<>(language, (T) translation.getCache(language));
-                if(pluginManager.isFallbackToSimilarLanguage()){
-                    Language similar = language.getSimilarLanguages().stream().filter(x-> !x.equals(language) && translation.isTranslatedIn(x)).findFirst().orElse(null);
-                    if(similar != null) return new Pair<>(similar, (T) translation.getCache(similar));
-                }
-                if(pluginManager.isFallbackToServerLanguage() && !language.equals(LanguagesAPI.getServerLanguage()) && translation.isTranslatedIn(LanguagesAPI.getServerLanguage())) return new Pair<>(LanguagesAPI.getServerLanguage(), (T) translation.getCache(LanguagesAPI.getServerLanguage()));
-                if(pluginManager.isFallbackToDefaultLanguage() && !language.equals(pluginManager.getDefaultLanguage())) return new Pair<>(pluginManager.getDefaultLanguage(), (T) translation.get(pluginManager.getDefaultLanguage()));
-            }
+        private Pair<Language, Entry<T>> task(Language language){
+            Language source = pluginManager.getFallbackTable().resolve(translation, language);
+            Entry<T> entry = source == null ? null : translation.getEntry(source);
+            if(entry != null) return new Pair<>(source, entry);
             // Return code
-            if(translation.getType().containsText()) return new Pair<>(null, (T) translation.getType().fromString(translation.getKey().toString()));
+            if(translation.getType().containsText()) return new Pair<>(null, new Entry<>((T) translation.getType().fromString(translation.getKey().toString()), null));
             // Throw error
             throw new IllegalStateException("Impossible to return translation.");
         }
@@ -357,155 +650,180 @@ public class Translation<T> implements Supplier<T>, Keyed {
         public LanguagesAPI.PluginManager getPluginManager() { return pluginManager; }
     }
 
+    /**
+     * Result of a translation in a language. Results are immutable, the replace methods return a new result,
+     * so the same result can be cached and shared between callers.
+     */
     public static class Result<T>{
 
         private final LanguagesAPI.PluginManager pluginManager;
         private final Language language;
         private final Translation<T> translation;
         private final T plainResult;
-        private T replacedResult;
-
-        protected Result(LanguagesAPI.PluginManager pluginManager, Translation<T> translation, @Nullable Language language, @Nullable T result){
+        private final T replacedResult;
+        @Nullable private final TranslationTemplate[] templates;
+        @Nullable private volatile TranslationFormat[] formats;
+        @Nullable private volatile BaseComponent[] components;
+        @Nullable private volatile String json;
+        @Nullable private volatile boolean[] placeholderLines;
+
+        protected Result(LanguagesAPI.PluginManager pluginManager, Translation<T> translation, @Nullable Language language, @Nullable T result, @Nullable TranslationTemplate[] templates){
             Validate.notNull(translation, "Message cannot be null.");
             this.pluginManager = pluginManager;
             this.translation = translation;
             this.language = language;
             this.plainResult = translation.getType().clone(result);
-            this.replacedResult = translation.getType().clone(result);
-            replaceAnotherTranslations();
-            replaceMinecraftTranslations();
-            if(translation.getPluginManager().isAutoColorTranslations()) replaceChatColors();
-            replacePlaceholderTags();
+            this.templates = hasNoResult() ? null : templates;
+            if(this.templates == null) this.replacedResult = translation.getType().clone(result);
+            else this.replacedResult = render(templates, pluginManager.isAutoColorTranslations());
         }
 
-        private Result replacePlaceholderTags(){
-            if(!pluginManager.isUseFormattedPlaceholders()) return this;
-            if(hasNoResult()) return this;
-            if(!translation.getType().containsText()) return this;
-            if(translation.getPlaceholders().isEmpty()) return this;
-            if(translation.getType().equals(Type.STRING)) replacedResult = (T) replacePlaceholderTags((String) replacedResult);
-            if(translation.getType().equals(Type.LIST)){
-                List<String> toReplace = (List<String>) replacedResult;
-                for(int i = 0; i < toReplace.size(); i++){
-                    String replaced = replacePlaceholderTags(toReplace.get(i));
-                    toReplace.set(i, replaced);
-                }
-                replacedResult = (T) toReplace;
-            }
-            return this;
+        private Result(Result<T> result, T replacedResult){
+            this.pluginManager = result.pluginManager;
+            this.translation = result.translation;
+            this.language = result.language;
+            this.plainResult = result.plainResult;
+            this.replacedResult = replacedResult;
+            this.templates = null;
         }
 
-        private String replacePlaceholderTags(String string){
-            if(translation.getPlaceholders().isEmpty()) return string;
-            //DebugManager.print("Replacing: " + string);
-            for(int i = 1; i <= translation.placeholders.size(); i++){
-                String placeholderTag = translation.placeholders.get(i - 1).tag();
-                //DebugManager.print("Index " + i + " -> Tag: " + placeholderTag);
-                string = string.replace("{" + placeholderTag + "}", "%" + i + "$s");
+        private T render(TranslationTemplate[] templates, boolean colored){
+            if(translation.getType().equals(Type.STRING)) return (T) templates[0].render(translation, language, colored);
+            if(translation.getType().equals(Type.LIST)){
+                List<String> rendered = new ArrayList<>(templates.length);
+                for(TranslationTemplate template : templates) rendered.add(template.render(translation, language, colored));
+                return (T) rendered;
             }
-            //DebugManager.print("Replaced: " + string);
-            return string;
+            return translation.getType().clone(plainResult);
         }
 
+        /**
+         * Replaces the PlaceholderAPI placeholders for that player. Only the lines that contain a placeholder go
+         * through PlaceholderAPI, and the same result is returned if there are none.
+         */
         public Result replacePlaceholderAPI(Player player){
-            if(hasNoResult()) return this;
-            if(!translation.getType().containsText()) return this;
-            if(!IntegrationsManager.isUsingPlaceholderAPI()) return this;
-            if(translation.getType().equals(Type.STRING)) replacedResult = (T) IntegrationsManager.getPlaceholderAPI().replace(player, (String) replacedResult);
-            if(translation.getType().equals(Type.LIST)) replacedResult = (T) IntegrationsManager.getPlaceholderAPI().replace(player, (List<String>) replacedResult);
-            return this;
-        }
-
-        public Result replaceAnotherTranslations(){
-            if(hasNoResult()) return this;
-            if(!translation.getType().containsText()) return this;
-            if(translation.getType().equals(Type.STRING)) replacedResult = (T) regexAnotherTranslations((String) replacedResult);
+            if(!IntegrationsManager.isUsingPlaceholderAPI() || !hasPlaceholderAPI()) return this;
+            if(translation.getType().equals(Type.STRING)) return new Result<>(this, (T) IntegrationsManager.getPlaceholderAPI().replace(player, (String) replacedResult));
             if(translation.getType().equals(Type.LIST)){
-                List<String> toReplace = (List<String>) replacedResult;
-                for(int i = 0; i < toReplace.size(); i++){
-                    String replaced = regexAnotherTranslations(toReplace.get(i));
-                    toReplace.set(i, replaced);
-                }
-                replacedResult = (T) toReplace;
+                boolean[] lines = getPlaceholderLines();
+                List<String> replaced = new ArrayList<>((List<String>) replacedResult);
+                for(int i = 0; i < lines.length; i++) if(lines[i]) replaced.set(i, IntegrationsManager.getPlaceholderAPI().replace(player, replaced.get(i)));
+                return new Result<>(this, (T) replaced);
             }
             return this;
         }
 
-        public Result replaceMinecraftTranslations(){
-            if(hasNoResult()) return this;
-            if(!translation.getType().containsText()) return this;
-            if(translation.getType().equals(Type.STRING)) replacedResult = (T) regexMinecraftTranslations((String) replacedResult);
-            if(translation.getType().equals(Type.LIST)){
-                List<String> toReplace = (List<String>) replacedResult;
-                for(int i = 0; i < toReplace.size(); i++){
-                    String replaced = regexMinecraftTranslations(toReplace.get(i));
-                    toReplace.set(i, replaced);
-                }
-                replacedResult = (T) toReplace;
-            }
-            return this;
+        /**
+         * @return if the rendered text contains any PlaceholderAPI placeholder
+         */
+        public boolean hasPlaceholderAPI(){
+            for(boolean line : getPlaceholderLines()) if(line) return true;
+            return false;
         }
 
-        private String regexAnotherTranslations(String toReplace){
-            if(!toReplace.contains("$T{")) return toReplace;
-            StringBuilder newTemplate = new StringBuilder(toReplace);
-            Matcher matcher = Pattern.compile("[$]T[{](.*?)}").matcher(toReplace);
-            while (matcher.find()) {
-                String placeholderWithBrackets = matcher.group();
-                String placeholderWithoutBrackets = placeholderWithBrackets.substring(3, placeholderWithBrackets.length()-1);
-                if(placeholderWithoutBrackets.equalsIgnoreCase(translation.getSimpleKey())) continue;
-                if(!pluginManager.hasTranslation(placeholderWithoutBrackets)) continue;
-                if(!pluginManager.grabTranslationType(placeholderWithoutBrackets).isPresent()) continue;
-                if(!pluginManager.grabTranslationType(placeholderWithoutBrackets).get().equals(Type.STRING)) continue;
-                int index = toReplace.indexOf(placeholderWithBrackets);
-                if(index == -1) continue;
-                String trans = pluginManager.getTranslationString(placeholderWithoutBrackets, language);
-                newTemplate.replace(index, index + placeholderWithBrackets.length(), trans);
+        /**
+         * Scans the rendered lines once per result, cached results are shared so this runs once per language.
+         */
+        private boolean[] getPlaceholderLines(){
+            boolean[] lines = this.placeholderLines;
+            if(lines != null) return lines;
+            if(hasNoResult() || !translation.getType().containsText()) lines = new boolean[0];
+            else if(translation.getType().equals(Type.STRING)) lines = new boolean[] { StringUtils.containsPlaceholderAPI((String) replacedResult) };
+            else if(translation.getType().equals(Type.LIST)){
+                List<String> list = (List<String>) replacedResult;
+                lines = new boolean[list.size()];
+                for(int i = 0; i < lines.length; i++) lines[i] = StringUtils.containsPlaceholderAPI(list.get(i));
             }
-            return newTemplate.toString();
+            else lines = new boolean[0];
+            this.placeholderLines = lines;
+            return lines;
         }
 
-        private String regexMinecraftTranslations(String toReplace){
-            if(!toReplace.contains("$MC{")) return toReplace;
-            StringBuilder newTemplate = new StringBuilder(toReplace);
-            Matcher matcher = Pattern.compile("[$]MC[{](.*?)}").matcher(toReplace);
-            while (matcher.find()) {
-                String placeholderWithBrackets = matcher.group();
-                String placeholderWithoutBrackets = placeholderWithBrackets.substring(4, placeholderWithBrackets.length()-1);
-                if(!MinecraftTranslation.containsTranslation(language, placeholderWithoutBrackets)) continue;
-                String paramName = "$MC{" + placeholderWithoutBrackets + "}";
-                int index = toReplace.indexOf(paramName);
-                if(index == -1) continue;
-                String trans = MinecraftTranslation.getTranslation(language, placeholderWithoutBrackets);
-                newTemplate.replace(index, index + paramName.length(), trans);
-            }
-            return newTemplate.toString();
-        }
+        /**
+         * @deprecated {@code $T{}} references are resolved when the result is created, from the compiled templates.
+         */
+        @Deprecated
+        public Result replaceAnotherTranslations(){ return this; }
+
+        /**
+         * @deprecated {@code $MC{}} references are resolved when the result is created, from the compiled templates.
+         */
+        @Deprecated
+        public Result replaceMinecraftTranslations(){ return this; }
 
         public Result replaceChatColors(){
             if(hasNoResult()) return this;
             if(!translation.getType().containsText()) return this;
-            if(translation.getType().equals(Type.STRING)) replacedResult = (T) StringUtils.formatColor((String) replacedResult);
+            if(templates != null) return new Result<>(this, render(templates, true));
+            if(translation.getType().equals(Type.STRING)) return new Result<>(this, (T) StringUtils.formatColor((String) replacedResult));
             if(translation.getType().equals(Type.LIST)){
-                List<String> toReplace = (List<String>) replacedResult;
+                List<String> toReplace = (List<String>) translation.getType().clone(replacedResult);
                 for(int i = 0; i < toReplace.size(); i++){
                     String replaced = StringUtils.formatColor(toReplace.get(i));
                     toReplace.set(i, replaced);
                 }
-                replacedResult = (T) toReplace;
+                return new Result<>(this, (T) toReplace);
             }
             return this;
         }
 
+        /**
+         * @return the compiled formats of this result, one per line, or {@code null} if it has no text to format
+         */
+        @Nullable
+        public TranslationFormat[] getFormats(){
+            TranslationFormat[] formats = this.formats;
+            if(formats != null || templates == null) return formats;
+            formats = new TranslationFormat[templates.length];
+            for(int i = 0; i < templates.length; i++) formats[i] = templates[i].compileFormat(translation, language);
+            this.formats = formats;
+            return formats;
+        }
+
+        /**
+         * Gets this result as chat components. The legacy text is converted once per result, and the cached
+         * results are shared per language, so sending the same translation again does not parse it again.
+         * Lines of a {@link Type#LIST} are joined with new lines.
+         *
+         * @return copy of the components, that can be modified (for example to add click or hover events)
+         */
+        @Nonnull
+        public BaseComponent[] getComponents(){
+            BaseComponent[] components = buildComponents();
+            BaseComponent[] copy = new BaseComponent[components.length];
+            for(int i = 0; i < components.length; i++) copy[i] = components[i].duplicate();
+            return copy;
+        }
+
+        /**
+         * @return this result as a JSON chat component, serialized once per result
+         */
+        @Nonnull
+        public String getJson(){
+            String json = this.json;
+            if(json != null) return json;
+            json = ComponentSerializer.toString(buildComponents());
+            this.json = json;
+            return json;
+        }
+
+        private BaseComponent[] buildComponents(){
+            BaseComponent[] components = this.components;
+            if(components != null) return components;
+            components = TextComponent.fromLegacyText(toString(StringUtils.StringListSeparator.NEW_LINE));
+            this.components = components;
+            return components;
+        }
+
         public Language getLanguage() { return language; }
 
         public Translation<T> getTranslation() { return translation; }
 
         public boolean hasNoResult() { return language == null; }
 
-        public T getFinalResult() { return replacedResult; }
+        public T getFinalResult() { return translation.getType().clone(replacedResult); }
 
-        public T getPlainResult() { return plainResult; }
+        public T getPlainResult() { return translation.getType().clone(plainResult); }
 
         @Override
         public String toString(){
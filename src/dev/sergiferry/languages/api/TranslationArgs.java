@@ -0,0 +1,98 @@
+package dev.sergiferry.languages.api;
+
+import org.apache.commons.lang.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Named arguments for {@link Translation#render(Language, TranslationArgs)}, bound by the {@code {tag}} they replace,
+ * so the order of the placeholders in each language does not matter. A carrier can be cleared and reused, and
+ * {@link #local()} gives a carrier per thread to render without allocating one.
+ *
+ * <pre>{@code
+ * translation.render(language, TranslationArgs.local().set("player", name).set("amount", amount));
+ * }</pre>
+ */
+public final class TranslationArgs {
+
+    private static final ThreadLocal<TranslationArgs> LOCAL = ThreadLocal.withInitial(TranslationArgs::new);
+
+    private String[] tags;
+    private Object[] values;
+    private int size;
+
+    public TranslationArgs(){ this(4); }
+
+    public TranslationArgs(int capacity){
+        this.tags = new String[Math.max(capacity, 1)];
+        this.values = new Object[tags.length];
+        this.size = 0;
+    }
+
+    /**
+     * Gets the carrier of the current thread, cleared. It must be used right away, before rendering again
+     * with {@code local()} in the same thread.
+     *
+     * @return cleared carrier of this thread
+     */
+    @Nonnull
+    public static TranslationArgs local(){ return LOCAL.get().clear(); }
+
+    @Nonnull
+    public static TranslationArgs of(@Nonnull String tag, @Nullable Object value){ return new TranslationArgs().set(tag, value); }
+
+    /**
+     * @param tag Placeholder tag, without braces
+     * @param value Value of the placeholder
+     * @return this carrier
+     */
+    @Nonnull
+    public TranslationArgs set(@Nonnull String tag, @Nullable Object value){
+        Validate.notNull(tag, "Tag cannot be null");
+        int index = indexOf(tag);
+        if(index == -1){
+            if(size == tags.length){
+                tags = Arrays.copyOf(tags, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            index = size++;
+            tags[index] = tag;
+        }
+        values[index] = value;
+        return this;
+    }
+
+    protected int indexOf(@Nonnull String tag){
+        for(int i = 0; i < size; i++) if(tags[i] == tag || tags[i].equals(tag)) return i;
+        return -1;
+    }
+
+    public boolean contains(@Nonnull String tag){ return indexOf(tag) != -1; }
+
+    @Nullable
+    public Object get(@Nonnull String tag){
+        int index = indexOf(tag);
+        return index == -1 ? null : values[index];
+    }
+
+    @Nullable protected Object getValue(int index) { return values[index]; }
+
+    /**
+     * @return this carrier, without arguments
+     */
+    @Nonnull
+    public TranslationArgs clear(){
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(tags, 0, size, null);
+        size = 0;
+        return this;
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+}
@@ -0,0 +1,111 @@
+package dev.sergiferry.languages.api;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Rendered translation text split at its {@code {tag}} placeholders. Arguments are spliced directly into the slots,
+ * by the index of the tag in {@link Translation#getPlaceholders()} or by the tag name, so formatting never parses a
+ * format string and a {@code %} in the text is kept as it is. {@link LocalizedArgument}s are formatted in the
+ * language of the format.
+ */
+public final class TranslationFormat {
+
+    private final Language language;
+    private final String[] parts;
+    private final int[] slots;
+    private final String[] tags;
+    private final String[] raws;
+    private final int length;
+
+    /**
+     * @param language Language of the rendered text
+     * @param parts Text between the slots, one more than slots
+     * @param slots Argument index of every slot, or -1 if the tag is not a translation placeholder
+     * @param tags Tag of every slot
+     * @param raws Original text of every slot, used when the argument is missing
+     */
+    protected TranslationFormat(@Nonnull Language language, @Nonnull String[] parts, @Nonnull int[] slots, @Nonnull String[] tags, @Nonnull String[] raws){
+        this.language = language;
+        this.parts = parts;
+        this.slots = slots;
+        this.tags = tags;
+        this.raws = raws;
+        int length = 0;
+        for(String part : parts) length += part.length();
+        this.length = length;
+    }
+
+    /**
+     * @param args Arguments, in the order of the translation placeholders
+     * @return text with the arguments spliced in
+     */
+    @Nonnull
+    public String format(@Nonnull Object... args){
+        if(slots.length == 0) return parts[0];
+        StringBuilder builder = new StringBuilder(length + slots.length * 16);
+        for(int i = 0; i < slots.length; i++){
+            builder.append(parts[i]);
+            int slot = slots[i];
+            if(slot != -1 && slot < args.length) append(builder, args[slot]);
+            else builder.append(raws[i]);
+        }
+        return builder.append(parts[slots.length]).toString();
+    }
+
+    /**
+     * @param args Arguments, by tag
+     * @return text with the arguments spliced in
+     */
+    @Nonnull
+    public String format(@Nonnull TranslationArgs args){
+        if(slots.length == 0) return parts[0];
+        StringBuilder builder = new StringBuilder(length + slots.length * 16);
+        for(int i = 0; i < slots.length; i++){
+            builder.append(parts[i]);
+            int index = args.indexOf(tags[i]);
+            if(index != -1) append(builder, args.getValue(index));
+            else builder.append(raws[i]);
+        }
+        return builder.append(parts[slots.length]).toString();
+    }
+
+    private void append(StringBuilder builder, Object argument){
+        if(argument instanceof LocalizedArgument localized) builder.append(localized.format(language));
+        else builder.append(argument);
+    }
+
+    @Nonnull public Language getLanguage() { return language; }
+
+    /**
+     * @return amount of slots of this format
+     */
+    public int getSlotsCount() { return slots.length; }
+
+    /**
+     * @param slot Slot position
+     * @return argument index of that slot, or -1 if the tag is not a translation placeholder
+     */
+    public int getSlotArgument(int slot) { return slots[slot]; }
+
+    /**
+     * @param slot Slot position
+     * @return tag of that slot, without braces
+     */
+    @Nonnull public String getSlotTag(int slot) { return tags[slot]; }
+
+    /**
+     * @param slot Slot position
+     * @return original {@code {tag}} text of that slot
+     */
+    @Nonnull public String getSlotRaw(int slot) { return raws[slot]; }
+
+    /**
+     * @param index Part position, from 0 to {@link #getSlotsCount()}
+     * @return text before the slot with that position, or after the last slot
+     */
+    @Nonnull public String getPart(int index) { return parts[index]; }
+
+    @Override public String toString() { return format(new Object[0]); }
+}
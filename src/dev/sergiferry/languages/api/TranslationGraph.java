@@ -0,0 +1,173 @@
+package dev.sergiferry.languages.api;
+
+import dev.sergiferry.languages.LanguagesPlugin;
+import org.bukkit.Bukkit;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Graph of the {@code $T{key}} references between the translations of a plugin. Keeps, for each key, the keys it
+ * references and the keys that reference it, so only the dependents of a changed translation are rendered again.
+ * References that close a cycle are detected when they are added, reported once, and left unexpanded when rendering.
+ */
+class TranslationGraph {
+
+    private final LanguagesAPI.PluginManager pluginManager;
+    private final Map<String, Set<String>> references;
+    private final Map<String, Set<String>> dependents;
+    private final Set<Set<String>> reportedCycles;
+    private volatile Map<String, Integer> cycles;
+
+    protected TranslationGraph(@Nonnull LanguagesAPI.PluginManager pluginManager){
+        this.pluginManager = pluginManager;
+        this.references = new HashMap<>();
+        this.dependents = new ConcurrentHashMap<>();
+        this.reportedCycles = new HashSet<>();
+        this.cycles = Map.of();
+    }
+
+    /**
+     * Sets the keys referenced by that translation.
+     *
+     * @param simpleKey Translation simpleKey
+     * @param referenced Referenced simpleKeys
+     */
+    protected synchronized void update(@Nonnull String simpleKey, @Nonnull Set<String> referenced){
+        String key = simpleKey.toLowerCase();
+        Set<String> previous = references.getOrDefault(key, Set.of());
+        Set<String> current = new HashSet<>();
+        referenced.forEach(x-> current.add(x.toLowerCase()));
+        if(previous.equals(current)) return;
+        for(String removed : previous){
+            if(current.contains(removed)) continue;
+            Set<String> set = dependents.get(removed);
+            if(set != null) set.remove(key);
+        }
+        boolean closesCycle = false;
+        for(String added : current){
+            if(previous.contains(added)) continue;
+            dependents.computeIfAbsent(added, x-> ConcurrentHashMap.newKeySet()).add(key);
+            if(!closesCycle && reaches(added, key)) closesCycle = true;
+        }
+        if(current.isEmpty()) references.remove(key);
+        else references.put(key, current);
+        if(closesCycle || cycles.containsKey(key)) detectCycles();
+    }
+
+    /**
+     * Adds the keys referenced by that translation, keeping the ones it already had. Used before a new value is
+     * published, so its cycles are detected before any reader can render it.
+     *
+     * @param simpleKey Translation simpleKey
+     * @param referenced Referenced simpleKeys
+     */
+    protected synchronized void addReferences(@Nonnull String simpleKey, @Nonnull Set<String> referenced){
+        String key = simpleKey.toLowerCase();
+        Set<String> previous = references.getOrDefault(key, Set.of());
+        Set<String> current = new HashSet<>(previous);
+        boolean closesCycle = false;
+        for(String reference : referenced){
+            String added = reference.toLowerCase();
+            if(!current.add(added)) continue;
+            dependents.computeIfAbsent(added, x-> ConcurrentHashMap.newKeySet()).add(key);
+            if(!closesCycle && reaches(added, key)) closesCycle = true;
+        }
+        if(current.size() == previous.size()) return;
+        references.put(key, current);
+        if(closesCycle) detectCycles();
+    }
+
+    private boolean reaches(String from, String to){
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(from);
+        while (!pending.isEmpty()){
+            String current = pending.pop();
+            if(current.equals(to)) return true;
+            if(!visited.add(current)) continue;
+            references.getOrDefault(current, Set.of()).forEach(pending::push);
+        }
+        return false;
+    }
+
+    /**
+     * Finds the strongly connected components of the graph (Tarjan) and keeps the ones that form a cycle.
+     */
+    private void detectCycles(){
+        Map<String, Integer> found = new HashMap<>();
+        new Tarjan().run().forEach(component -> {
+            if(component.size() == 1){
+                String single = component.iterator().next();
+                if(!references.getOrDefault(single, Set.of()).contains(single)) return;
+            }
+            int id = found.size();
+            component.forEach(x-> found.put(x, id));
+            if(reportedCycles.add(component)) report(component);
+        });
+        cycles = Collections.unmodifiableMap(found);
+    }
+
+    private void report(Set<String> component){
+        Bukkit.getConsoleSender().sendMessage(LanguagesPlugin.getInstance().getPrefix() + "§cCircular translation references in §e" + pluginManager.getPlugin().getName() + "§c: §7" + String.join(", ", new TreeSet<>(component)) + "§c. These references will not be replaced.");
+    }
+
+    /**
+     * @param from Translation simpleKey that contains the reference
+     * @param to Referenced simpleKey
+     * @return true if the reference is part of a cycle and must not be expanded
+     */
+    protected boolean isCyclic(@Nonnull String from, @Nonnull String to){
+        Map<String, Integer> cycles = this.cycles;
+        if(cycles.isEmpty()) return false;
+        Integer component = cycles.get(from.toLowerCase());
+        return component != null && component.equals(cycles.get(to.toLowerCase()));
+    }
+
+    /**
+     * @param simpleKey Translation simpleKey
+     * @return the simpleKeys of the translations that reference that one directly
+     */
+    @Nonnull
+    protected Set<String> getDependents(@Nonnull String simpleKey){ return dependents.getOrDefault(simpleKey.toLowerCase(), Set.of()); }
+
+    private class Tarjan {
+
+        private final Map<String, Integer> index = new HashMap<>();
+        private final Map<String, Integer> lowLink = new HashMap<>();
+        private final Deque<String> stack = new ArrayDeque<>();
+        private final Set<String> onStack = new HashSet<>();
+        private final List<Set<String>> components = new ArrayList<>();
+
+        private List<Set<String>> run(){
+            for(String key : references.keySet()) if(!index.containsKey(key)) visit(key);
+            return components;
+        }
+
+        private void visit(String key){
+            index.put(key, index.size());
+            lowLink.put(key, index.get(key));
+            stack.push(key);
+            onStack.add(key);
+            for(String referenced : references.getOrDefault(key, Set.of())){
+                if(!index.containsKey(referenced)){
+                    visit(referenced);
+                    lowLink.put(key, Math.min(lowLink.get(key), lowLink.get(referenced)));
+                }
+                else if(onStack.contains(referenced)) lowLink.put(key, Math.min(lowLink.get(key), index.get(referenced)));
+            }
+            if(!lowLink.get(key).equals(index.get(key))) return;
+            Set<String> component = new HashSet<>();
+            String member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                component.add(member);
+            } while (!member.equals(key));
+            components.add(component);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.sergiferry.languages.api;
+
+import net.md_5.bungee.api.chat.BaseComponent;
+import org.bukkit.NamespacedKey;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Handle of a translation, obtained once with {@link LanguagesAPI.PluginManager#key(String)} and kept by the plugin.
+ * It points directly to the {@code Translation<T>} instance, so reading it skips the key normalization, the registry
+ * lookup and the type check. There is a single handle per translation.
+ */
+public final class TranslationKey<T> {
+
+    private final Translation<T> translation;
+
+    protected TranslationKey(@Nonnull Translation<T> translation){ this.translation = translation; }
+
+    @Nonnull public Translation<T> getTranslation() { return translation; }
+
+    @Nonnull public String getSimpleKey() { return translation.getSimpleKey(); }
+
+    @Nonnull public NamespacedKey getKey() { return translation.getKey(); }
+
+    @Nonnull public Translation.Type<T> getType() { return translation.getType(); }
+
+    @Nonnull public LanguagesAPI.PluginManager getPluginManager() { return translation.getPluginManager(); }
+
+    public T get(@Nullable Language language) { return translation.get(language); }
+
+    public T get(@Nonnull Player player) { return translation.get(player); }
+
+    public T get(@Nonnull CommandSender commandSender) { return translation.get(commandSender); }
+
+    public T get() { return translation.get(); }
+
+    public T format(@Nullable Language language, @Nonnull Object... args) { return translation.format(language, args); }
+
+    public T render(@Nullable Language language, @Nonnull TranslationArgs args) { return translation.render(language, args); }
+
+    @Nonnull public String formatMessage(@Nullable Language language, @Nonnull TranslationArgs args) { return translation.formatMessage(language, args); }
+
+    @Nonnull public String formatMessage(@Nullable Language language, @Nonnull Object... args) { return translation.formatMessage(language, args); }
+
+    @Nonnull public BaseComponent[] getComponents(@Nullable Language language) { return translation.getComponents(language); }
+
+    @Nonnull public BaseComponent[] getComponents(@Nonnull Player player) { return translation.getComponents(player); }
+
+    @Nonnull public String getJson(@Nullable Language language) { return translation.getJson(language); }
+
+    public Translation.Result<T> getResult(@Nullable Language language) { return translation.getResult(language); }
+
+    @Override public String toString() { return translation.getKey().toString(); }
+}
@@ -0,0 +1,428 @@
+package dev.sergiferry.languages.api;
+
+import dev.sergiferry.languages.utils.StringUtils;
+import org.apache.commons.lang.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Value of a {@link Translation.Type#MESSAGE_FORMAT} translation: an ICU style message with {@code plural},
+ * {@code selectordinal} and {@code select} arguments. The pattern is compiled once, when the value enters the
+ * translation store, and formatting walks the compiled nodes with the {@link PluralRules} of the language the
+ * text is written in.
+ *
+ * <pre>{@code
+ * You have {count, plural, =0 {no messages} one {# message} other {# messages}} from {sender}.
+ * {gender, select, female {She} male {He} other {They}} finished {place, selectordinal, one {#st} two {#nd} few {#rd} other {#th}}.
+ * }</pre>
+ *
+ * A single quote starts quoted text when it is followed by {@code {}, {@code }} or {@code #}, and two single quotes
+ * write one. {@code $T{key}} and {@code $MC{key}} references and color codes are resolved in the text parts. Numbers,
+ * {@code #} and {@link LocalizedArgument}s are formatted with the {@link LanguageFormats} of the language.
+ */
+public final class TranslationMessage {
+
+    private final String pattern;
+    private final Node[] nodes;
+    private final List<String> arguments;
+
+    private TranslationMessage(String pattern, Node[] nodes, List<String> arguments){
+        this.pattern = pattern;
+        this.nodes = nodes;
+        this.arguments = arguments;
+    }
+
+    /**
+     * @param pattern Message pattern
+     * @return the compiled message
+     * @throws IllegalArgumentException if the pattern is not valid
+     */
+    @Nonnull
+    public static TranslationMessage of(@Nonnull String pattern) throws IllegalArgumentException{
+        Validate.notNull(pattern, "Pattern cannot be null.");
+        Parser parser = new Parser(pattern);
+        Node[] nodes = parser.parseMessage(false, false);
+        if(parser.position < pattern.length()) throw parser.error("Unmatched '}'");
+        return new TranslationMessage(pattern, nodes, Collections.unmodifiableList(new ArrayList<>(parser.arguments)));
+    }
+
+    @Nonnull public String getPattern() { return pattern; }
+
+    /**
+     * @return names of the arguments used by this message, in order of appearance
+     */
+    @Nonnull public List<String> getArguments() { return arguments; }
+
+    public boolean isEmpty() { return pattern.isBlank(); }
+
+    @Override public String toString() { return pattern; }
+
+    @Override public boolean equals(Object o) { return o instanceof TranslationMessage message && message.pattern.equals(pattern); }
+
+    @Override public int hashCode() { return pattern.hashCode(); }
+
+    /**
+     * @param translation Translation that owns this message
+     * @param language Language the message is written in, used for the plural rules and the references
+     * @param args Arguments, by name
+     * @return formatted message
+     */
+    @Nonnull
+    public String format(@Nonnull Translation<?> translation, @Nullable Language language, @Nonnull TranslationArgs args){
+        Validate.notNull(args, "Arguments cannot be null.");
+        return format(translation, language, name -> {
+            int index = args.indexOf(name);
+            return index == -1 ? Arguments.MISSING : args.getValue(index);
+        });
+    }
+
+    /**
+     * @param translation Translation that owns this message
+     * @param language Language the message is written in, used for the plural rules and the references
+     * @param args Arguments, in the order of the translation placeholders, or by number for numeric argument names
+     * @return formatted message
+     */
+    @Nonnull
+    public String format(@Nonnull Translation<?> translation, @Nullable Language language, @Nonnull Object... args){
+        return format(translation, language, name -> {
+            int index = translation.getPlaceholderIndex(name);
+            if(index == -1 && !name.isEmpty() && name.length() < 10 && name.chars().allMatch(c -> c >= '0' && c <= '9')) index = Integer.parseInt(name);
+            return index == -1 || index >= args.length ? Arguments.MISSING : args[index];
+        });
+    }
+
+    private String format(Translation<?> translation, Language language, Arguments arguments){
+        Context context = new Context(translation, language, translation.getPluginManager().isAutoColorTranslations(), arguments);
+        StringBuilder builder = new StringBuilder(pattern.length() + 16);
+        append(nodes, context, null, builder);
+        return builder.toString();
+    }
+
+    private static void append(Node[] nodes, Context context, @Nullable Number pound, StringBuilder builder){
+        for(Node node : nodes) node.append(context, pound, builder);
+    }
+
+    private interface Arguments {
+        Object MISSING = new Object();
+        Object get(String name);
+    }
+
+    private record Context(Translation<?> translation, Language language, boolean colored, Arguments arguments){
+
+        private PluralRules rules(boolean ordinal){ return ordinal ? PluralRules.ordinal(language) : PluralRules.cardinal(language); }
+
+        private LanguageFormats formats(){ return LanguageFormats.of(language); }
+    }
+
+    private interface Node { void append(Context context, @Nullable Number pound, StringBuilder builder); }
+
+    private record Text(String value, String colored, @Nullable TranslationTemplate template) implements Node {
+
+        @Override
+        public void append(Context context, Number pound, StringBuilder builder){
+            if(template != null) builder.append(template.render(context.translation(), context.language() != null ? context.language() : LanguagesAPI.getServerLanguage(), context.colored()));
+            else builder.append(context.colored() ? colored : value);
+        }
+    }
+
+    private record Pound(String raw) implements Node {
+
+        @Override
+        public void append(Context context, Number pound, StringBuilder builder){
+            if(pound == null) builder.append(raw);
+            else builder.append(context.formats().formatExact(pound));
+        }
+    }
+
+    private record Argument(String name, String raw) implements Node {
+
+        @Override
+        public void append(Context context, Number pound, StringBuilder builder){
+            Object value = context.arguments().get(name);
+            if(value == Arguments.MISSING) builder.append(raw);
+            else if(value instanceof LocalizedArgument localized) builder.append(localized.format(context.formats().getLanguage()));
+            else if(value instanceof Number number) builder.append(context.formats().formatNumber(number));
+            else builder.append(value);
+        }
+    }
+
+    private record Select(String name, String[] keys, Node[][] messages, Node[] other, String raw) implements Node {
+
+        @Override
+        public void append(Context context, Number pound, StringBuilder builder){
+            Object value = context.arguments().get(name);
+            if(value == Arguments.MISSING){
+                builder.append(raw);
+                return;
+            }
+            String key = String.valueOf(value);
+            for(int i = 0; i < keys.length; i++){
+                if(keys[i].equals(key)){
+                    TranslationMessage.append(messages[i], context, pound, builder);
+                    return;
+                }
+            }
+            TranslationMessage.append(other, context, pound, builder);
+        }
+    }
+
+    /**
+     * @param exacts Explicit {@code =n} values, compared with the argument before the offset
+     * @param categories Plural form of each category, by {@link PluralRules.Category#ordinal()}, or {@code null}
+     */
+    private record Plural(String name, boolean ordinal, long offset, BigDecimal[] exacts, Node[][] exactMessages, Node[][] categories, String raw) implements Node {
+
+        @Override
+        public void append(Context context, Number pound, StringBuilder builder){
+            Object value = context.arguments().get(name);
+            Number number = toNumber(value);
+            if(number == null){
+                if(value == Arguments.MISSING) builder.append(raw);
+                else if(value instanceof LocalizedArgument localized) builder.append(localized.format(context.formats().getLanguage()));
+                else builder.append(value);
+                return;
+            }
+            if(exacts.length > 0){
+                BigDecimal decimal = toDecimal(number);
+                for(int i = 0; i < exacts.length; i++){
+                    if(decimal.compareTo(exacts[i]) == 0){
+                        TranslationMessage.append(exactMessages[i], context, subtract(number), builder);
+                        return;
+                    }
+                }
+            }
+            Number relative = subtract(number);
+            PluralRules.Category category = context.rules(ordinal).select(relative);
+            Node[] message = categories[category.ordinal()];
+            if(message == null) message = categories[PluralRules.Category.OTHER.ordinal()];
+            TranslationMessage.append(message, context, relative, builder);
+        }
+
+        private Number subtract(Number number){
+            if(offset == 0) return number;
+            if(isInteger(number)) return number.longValue() - offset;
+            return toDecimal(number).subtract(BigDecimal.valueOf(offset));
+        }
+    }
+
+    @Nullable
+    private static Number toNumber(Object value){
+        if(value instanceof Number number) return number;
+        if(value instanceof String string){
+            try { return new BigDecimal(string.trim()); }
+            catch (NumberFormatException e) { return null; }
+        }
+        return null;
+    }
+
+    private static boolean isInteger(Number number){ return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte; }
+
+    private static BigDecimal toDecimal(Number number){
+        if(isInteger(number)) return BigDecimal.valueOf(number.longValue());
+        if(number instanceof BigDecimal decimal) return decimal;
+        if(number instanceof BigInteger integer) return new BigDecimal(integer);
+        double value = number.doubleValue();
+        if(Double.isNaN(value) || Double.isInfinite(value)) return BigDecimal.valueOf(Long.MIN_VALUE);
+        return new BigDecimal(number.toString());
+    }
+
+    private static class Parser {
+
+        private final String pattern;
+        private final Set<String> arguments;
+        private int position;
+
+        private Parser(String pattern){
+            this.pattern = pattern;
+            this.arguments = new LinkedHashSet<>();
+            this.position = 0;
+        }
+
+        /**
+         * Parses until the end of the pattern or an unmatched {@code }}, which is not consumed.
+         */
+        private Node[] parseMessage(boolean nested, boolean inPlural){
+            List<Node> nodes = new ArrayList<>();
+            StringBuilder text = new StringBuilder();
+            while(position < pattern.length()){
+                char c = pattern.charAt(position);
+                if(c == '\''){
+                    position++;
+                    readQuoted(text, inPlural);
+                }
+                else if(c == '$' && (pattern.startsWith("$T{", position) || pattern.startsWith("$MC{", position))){
+                    int end = pattern.indexOf('}', position);
+                    if(end == -1) throw error("Unclosed reference");
+                    text.append(pattern, position, end + 1);
+                    position = end + 1;
+                }
+                else if(c == '{'){
+                    addText(nodes, text);
+                    nodes.add(parseArgument(inPlural));
+                }
+                else if(c == '}'){
+                    if(!nested) throw error("Unmatched '}'");
+                    break;
+                }
+                else if(c == '#' && inPlural){
+                    addText(nodes, text);
+                    nodes.add(new Pound("#"));
+                    position++;
+                }
+                else{
+                    text.append(c);
+                    position++;
+                }
+            }
+            addText(nodes, text);
+            return nodes.toArray(new Node[0]);
+        }
+
+        private void readQuoted(StringBuilder text, boolean inPlural){
+            if(position < pattern.length() && pattern.charAt(position) == '\''){
+                text.append('\'');
+                position++;
+                return;
+            }
+            if(position >= pattern.length() || !isQuotable(pattern.charAt(position), inPlural)){
+                text.append('\'');
+                return;
+            }
+            while(position < pattern.length()){
+                char c = pattern.charAt(position++);
+                if(c != '\''){
+                    text.append(c);
+                    continue;
+                }
+                if(position < pattern.length() && pattern.charAt(position) == '\''){
+                    text.append('\'');
+                    position++;
+                    continue;
+                }
+                return;
+            }
+        }
+
+        private static boolean isQuotable(char c, boolean inPlural){ return c == '{' || c == '}' || (inPlural && c == '#'); }
+
+        private void addText(List<Node> nodes, StringBuilder text){
+            if(text.isEmpty()) return;
+            String value = text.toString();
+            TranslationTemplate template = value.contains("$T{") || value.contains("$MC{") ? TranslationTemplate.compile(value) : null;
+            nodes.add(new Text(value, StringUtils.formatColor(value), template));
+            text.setLength(0);
+        }
+
+        /**
+         * @param inPlural If the argument is inside a plural form, so {@code #} in its select forms is the plural number
+         */
+        private Node parseArgument(boolean inPlural){
+            int start = position;
+            position++;
+            String name = readIdentifier();
+            if(name.isEmpty()) throw error("Missing argument name");
+            arguments.add(name);
+            skipWhitespace();
+            if(consume('}')) return new Argument(name, pattern.substring(start, position));
+            if(!consume(',')) throw error("Expected ',' or '}'");
+            String type = readIdentifier();
+            if(!type.equals("plural") && !type.equals("selectordinal") && !type.equals("select")) throw error("Unsupported argument type '" + type + "'");
+            if(!consume(',')) throw error("Expected ',' after the argument type");
+            if(type.equals("select")) return parseSelect(name, start, inPlural);
+            return parsePlural(name, type.equals("selectordinal"), start);
+        }
+
+        private Node parsePlural(String name, boolean ordinal, int start){
+            long offset = 0;
+            skipWhitespace();
+            if(pattern.startsWith("offset:", position)){
+                position += "offset:".length();
+                String value = readIdentifier();
+                try { offset = Long.parseLong(value); }
+                catch (NumberFormatException e) { throw error("Invalid offset '" + value + "'"); }
+            }
+            List<BigDecimal> exacts = new ArrayList<>();
+            List<Node[]> exactMessages = new ArrayList<>();
+            Node[][] categories = new Node[PluralRules.Category.values().length][];
+            while(true){
+                skipWhitespace();
+                if(position >= pattern.length()) throw error("Unclosed argument '" + name + "'");
+                if(consume('}')) break;
+                String selector = readIdentifier();
+                if(selector.isEmpty()) throw error("Missing plural selector");
+                Node[] message = parseSubMessage(true);
+                if(selector.startsWith("=")){
+                    try { exacts.add(new BigDecimal(selector.substring(1))); }
+                    catch (NumberFormatException e) { throw error("Invalid explicit value '" + selector + "'"); }
+                    exactMessages.add(message);
+                    continue;
+                }
+                PluralRules.Category category = PluralRules.Category.grabCategory(selector);
+                if(category == null) throw error("Unknown plural category '" + selector + "'");
+                categories[category.ordinal()] = message;
+            }
+            if(categories[PluralRules.Category.OTHER.ordinal()] == null) throw error("Missing 'other' form in argument '" + name + "'");
+            return new Plural(name, ordinal, offset, exacts.toArray(new BigDecimal[0]), exactMessages.toArray(new Node[0][]), categories, pattern.substring(start, position));
+        }
+
+        private Node parseSelect(String name, int start, boolean inPlural){
+            List<String> keys = new ArrayList<>();
+            List<Node[]> messages = new ArrayList<>();
+            Node[] other = null;
+            while(true){
+                skipWhitespace();
+                if(position >= pattern.length()) throw error("Unclosed argument '" + name + "'");
+                if(consume('}')) break;
+                String key = readIdentifier();
+                if(key.isEmpty()) throw error("Missing select key");
+                Node[] message = parseSubMessage(inPlural);
+                if(key.equals("other")) other = message;
+                else{
+                    keys.add(key);
+                    messages.add(message);
+                }
+            }
+            if(other == null) throw error("Missing 'other' form in argument '" + name + "'");
+            return new Select(name, keys.toArray(new String[0]), messages.toArray(new Node[0][]), other, pattern.substring(start, position));
+        }
+
+        private Node[] parseSubMessage(boolean inPlural){
+            skipWhitespace();
+            if(!consume('{')) throw error("Expected '{'");
+            Node[] message = parseMessage(true, inPlural);
+            if(!consume('}')) throw error("Unclosed '{'");
+            return message;
+        }
+
+        private String readIdentifier(){
+            skipWhitespace();
+            int start = position;
+            while(position < pattern.length()){
+                char c = pattern.charAt(position);
+                if(Character.isWhitespace(c) || c == ',' || c == '{' || c == '}' || c == '\'' || c == '#') break;
+                position++;
+            }
+            String identifier = pattern.substring(start, position);
+            skipWhitespace();
+            return identifier;
+        }
+
+        private void skipWhitespace(){ while(position < pattern.length() && Character.isWhitespace(pattern.charAt(position))) position++; }
+
+        private boolean consume(char c){
+            if(position < pattern.length() && pattern.charAt(position) == c){
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private IllegalArgumentException error(String message){ return new IllegalArgumentException(message + " at position " + position + " of message '" + pattern + "'"); }
+    }
+}
@@ -0,0 +1,110 @@
+package dev.sergiferry.languages.api;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Immutable view of the translations of a plugin in one language, indexed by translation slot. The plugin publishes
+ * a new snapshot, with a higher version, every time a value changes, so readers never lock and always see either all
+ * of a change or none of it. Bulk writers (file load, database download) publish a single snapshot when they finish.
+ * <p>
+ * Entries are kept in pages of {@value #PAGE_SIZE} slots. A new snapshot shares the pages it does not change with the
+ * previous one, so storing a single value copies one page and the page table instead of every entry.
+ */
+public final class TranslationSnapshot {
+
+    private static final int PAGE_BITS = 6;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final Language language;
+    private final long version;
+    private final Translation.Entry<?>[][] pages;
+    private final int size;
+
+    private TranslationSnapshot(@Nonnull Language language, long version, @Nonnull Translation.Entry<?>[][] pages, int size){
+        this.language = language;
+        this.version = version;
+        this.pages = pages;
+        this.size = size;
+    }
+
+    @Nonnull
+    static TranslationSnapshot empty(@Nonnull Language language){ return new TranslationSnapshot(language, 0, new Translation.Entry[0][], 0); }
+
+    @Nullable
+    Translation.Entry<?> get(int slot){
+        int page = slot >>> PAGE_BITS;
+        if(page >= pages.length) return null;
+        Translation.Entry<?>[] entries = pages[page];
+        return entries == null ? null : entries[slot & PAGE_MASK];
+    }
+
+    /**
+     * @return a builder of the next snapshot, starting with the entries of this one
+     */
+    @Nonnull
+    Builder edit(){ return new Builder(this); }
+
+    /**
+     * Builder of the next snapshot. Pages are copied the first time one of their slots is set.
+     */
+    static final class Builder {
+
+        private final Language language;
+        private Translation.Entry<?>[][] pages;
+        private boolean[] copied;
+        private int size;
+
+        private Builder(TranslationSnapshot snapshot){
+            this.language = snapshot.language;
+            this.pages = snapshot.pages.clone();
+            this.copied = new boolean[pages.length];
+            this.size = snapshot.size;
+        }
+
+        @Nullable
+        Translation.Entry<?> get(int slot){
+            int page = slot >>> PAGE_BITS;
+            if(page >= pages.length) return null;
+            Translation.Entry<?>[] entries = pages[page];
+            return entries == null ? null : entries[slot & PAGE_MASK];
+        }
+
+        void set(int slot, @Nonnull Translation.Entry<?> entry){
+            int page = slot >>> PAGE_BITS;
+            if(page >= pages.length){
+                pages = Arrays.copyOf(pages, page + 1);
+                copied = Arrays.copyOf(copied, page + 1);
+            }
+            Translation.Entry<?>[] entries = pages[page];
+            if(!copied[page]){
+                entries = entries == null ? new Translation.Entry[PAGE_SIZE] : entries.clone();
+                pages[page] = entries;
+                copied[page] = true;
+            }
+            if(entries[slot & PAGE_MASK] == null) size++;
+            entries[slot & PAGE_MASK] = entry;
+        }
+
+        @Nonnull
+        TranslationSnapshot build(long version){ return new TranslationSnapshot(language, version, pages, size); }
+    }
+
+    public boolean contains(@Nonnull Translation<?> translation){ return get(translation.getSlot()) != null; }
+
+    @Nonnull public Language getLanguage() { return language; }
+
+    /**
+     * @return version of this snapshot, higher on every published change of the plugin
+     */
+    public long getVersion() { return version; }
+
+    /**
+     * @return amount of translations that have a value in this language
+     */
+    public int size() { return size; }
+}
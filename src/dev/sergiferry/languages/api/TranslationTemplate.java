@@ -0,0 +1,227 @@
+package dev.sergiferry.languages.api;
+
+import dev.sergiferry.languages.api.minecraft.MinecraftTranslation;
+import dev.sergiferry.languages.utils.StringUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Compiled form of a translation text. The text is parsed once, when it enters the translation store,
+ * into literal runs, {@code $T{key}} references, {@code $MC{key}} references and {@code {tag}} placeholders,
+ * so rendering is a single append loop. Literal runs keep the raw text and the text with the color codes
+ * already resolved, so rendering never parses colors.
+ */
+public class TranslationTemplate {
+
+    private static final String TRANSLATION_PREFIX = "$T{";
+    private static final String MINECRAFT_PREFIX = "$MC{";
+
+    public enum SegmentType { LITERAL, TRANSLATION, MINECRAFT, PLACEHOLDER }
+
+    /**
+     * @param type Segment type
+     * @param value Literal text, referenced key, or placeholder tag
+     * @param colored Literal text with the color codes resolved, or the same as value for other types
+     * @param raw Original text of the segment, used when a reference cannot be resolved
+     */
+    public record Segment(SegmentType type, String value, String colored, String raw){
+        public Segment(SegmentType type, String value, String raw){ this(type, value, value, raw); }
+    }
+
+    private final String source;
+    private final Segment[] segments;
+    @Nullable private final String literal;
+    @Nullable private final String coloredLiteral;
+
+    private TranslationTemplate(String source, Segment[] segments){
+        this.source = source;
+        this.segments = segments;
+        boolean isLiteral = isLiteral(segments);
+        this.literal = isLiteral ? (segments.length == 0 ? "" : segments[0].value().intern()) : null;
+        this.coloredLiteral = isLiteral ? (segments.length == 0 ? "" : segments[0].colored().intern()) : null;
+    }
+
+    @Nonnull
+    public static TranslationTemplate compile(@Nonnull String source){
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = source.length();
+        int i = 0;
+        while (i < length){
+            char c = source.charAt(i);
+            if(c == '$' && source.startsWith(TRANSLATION_PREFIX, i)){
+                int end = source.indexOf('}', i + TRANSLATION_PREFIX.length());
+                if(end != -1){
+                    addLiteral(segments, literal);
+                    segments.add(new Segment(SegmentType.TRANSLATION, source.substring(i + TRANSLATION_PREFIX.length(), end), source.substring(i, end + 1)));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            else if(c == '$' && source.startsWith(MINECRAFT_PREFIX, i)){
+                int end = source.indexOf('}', i + MINECRAFT_PREFIX.length());
+                if(end != -1){
+                    addLiteral(segments, literal);
+                    segments.add(new Segment(SegmentType.MINECRAFT, source.substring(i + MINECRAFT_PREFIX.length(), end), source.substring(i, end + 1)));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            else if(c == '{'){
+                int end = i + 1;
+                while (end < length && isPlaceholderChar(source.charAt(end))) end++;
+                if(end > i + 1 && end < length && source.charAt(end) == '}'){
+                    addLiteral(segments, literal);
+                    segments.add(new Segment(SegmentType.PLACEHOLDER, source.substring(i + 1, end), source.substring(i, end + 1)));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        addLiteral(segments, literal);
+        return new TranslationTemplate(source, segments.toArray(new Segment[0]));
+    }
+
+    private static void addLiteral(List<Segment> segments, StringBuilder literal){
+        if(literal.isEmpty()) return;
+        String text = literal.toString();
+        segments.add(new Segment(SegmentType.LITERAL, text, StringUtils.formatColor(text), text));
+        literal.setLength(0);
+    }
+
+    private static boolean isPlaceholderChar(char c){ return c != '{' && c != '}' && !Character.isWhitespace(c); }
+
+    private static boolean isLiteral(Segment[] segments){
+        if(segments.length > 1) return false;
+        return segments.length == 0 || segments[0].type().equals(SegmentType.LITERAL);
+    }
+
+    /**
+     * Renders this template for the given translation and language, with colors if the plugin uses auto color translations.
+     *
+     * @param translation Translation that owns this template
+     * @param language Language used to resolve {@code $T{}} and {@code $MC{}} references
+     * @return rendered text
+     */
+    @Nonnull
+    public String render(@Nonnull Translation<?> translation, @Nonnull Language language){ return render(translation, language, translation.getPluginManager().isAutoColorTranslations()); }
+
+    /**
+     * Renders this template for the given translation and language.
+     *
+     * @param translation Translation that owns this template
+     * @param language Language used to resolve {@code $T{}} and {@code $MC{}} references
+     * @param colored Use the literal text with the color codes resolved
+     * @return rendered text
+     */
+    @Nonnull
+    public String render(@Nonnull Translation<?> translation, @Nonnull Language language, boolean colored){
+        if(literal != null) return colored ? coloredLiteral : literal;
+        LanguagesAPI.PluginManager pluginManager = translation.getPluginManager();
+        boolean formattedPlaceholders = pluginManager.isUseFormattedPlaceholders();
+        StringBuilder builder = new StringBuilder(source.length() + 16);
+        for(Segment segment : segments){
+            switch (segment.type()){
+                case LITERAL -> builder.append(colored ? segment.colored() : segment.value());
+                case TRANSLATION -> builder.append(renderTranslation(translation, language, segment));
+                case MINECRAFT -> builder.append(renderMinecraft(language, segment));
+                case PLACEHOLDER -> {
+                    int index = formattedPlaceholders ? translation.getPlaceholderIndex(segment.value()) : -1;
+                    if(index == -1) builder.append(segment.raw());
+                    else builder.append('%').append(index + 1).append("$s");
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Renders this template keeping a slot for every {@code {tag}} placeholder.
+     *
+     * @param translation Translation that owns this template
+     * @param language Language used to resolve {@code $T{}} and {@code $MC{}} references
+     * @return compiled format
+     */
+    @Nonnull
+    public TranslationFormat compileFormat(@Nonnull Translation<?> translation, @Nonnull Language language){
+        boolean colored = translation.getPluginManager().isAutoColorTranslations();
+        if(literal != null) return new TranslationFormat(language, new String[] { colored ? coloredLiteral : literal }, new int[0], new String[0], new String[0]);
+        List<String> parts = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> tags = new ArrayList<>();
+        List<String> raws = new ArrayList<>();
+        StringBuilder builder = new StringBuilder(source.length() + 16);
+        for(Segment segment : segments){
+            switch (segment.type()){
+                case LITERAL -> builder.append(colored ? segment.colored() : segment.value());
+                case TRANSLATION -> builder.append(renderTranslation(translation, language, segment));
+                case MINECRAFT -> builder.append(renderMinecraft(language, segment));
+                case PLACEHOLDER -> {
+                    parts.add(builder.toString());
+                    builder.setLength(0);
+                    slots.add(translation.getPlaceholderIndex(segment.value()));
+                    tags.add(segment.value());
+                    raws.add(segment.raw());
+                }
+            }
+        }
+        parts.add(builder.toString());
+        return new TranslationFormat(language, parts.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray(), tags.toArray(new String[0]), raws.toArray(new String[0]));
+    }
+
+    private String renderMinecraft(Language language, Segment segment){
+        String code = segment.value();
+        if(!MinecraftTranslation.containsTranslation(language, code) && !MinecraftTranslation.existTranslation(code)) return segment.raw();
+        return MinecraftTranslation.getTranslation(language, code);
+    }
+
+    private String renderTranslation(Translation<?> translation, Language language, Segment segment){
+        LanguagesAPI.PluginManager pluginManager = translation.getPluginManager();
+        String key = segment.value();
+        if(key.equalsIgnoreCase(translation.getSimpleKey())) return segment.raw();
+        if(pluginManager.getTranslationGraph().isCyclic(translation.getSimpleKey(), key)) return segment.raw();
+        if(!pluginManager.isStringTranslation(key)) return segment.raw();
+        return pluginManager.getTranslationString(key, language);
+    }
+
+    /**
+     * @return the placeholder tags of this template, in order of appearance
+     */
+    @Nonnull
+    public List<String> getPlaceholderTags(){
+        List<String> tags = new ArrayList<>();
+        for(Segment segment : segments) if(segment.type().equals(SegmentType.PLACEHOLDER)) tags.add(segment.value());
+        return tags;
+    }
+
+    /**
+     * @return the keys referenced with {@code $T{key}} in this template, in order of appearance
+     */
+    @Nonnull
+    public List<String> getTranslationReferences(){
+        List<String> keys = new ArrayList<>();
+        for(Segment segment : segments) if(segment.type().equals(SegmentType.TRANSLATION)) keys.add(segment.value());
+        return keys;
+    }
+
+    @Nonnull public List<Segment> getSegments() { return List.of(segments); }
+
+    @Nonnull public String getSource() { return source; }
+
+    public boolean isLiteral() { return literal != null; }
+
+    /**
+     * @param colored Get the text with the color codes resolved
+     * @return the interned rendered text if this template is a pure literal, or {@code null}
+     */
+    @Nullable public String getLiteral(boolean colored) { return colored ? coloredLiteral : literal; }
+
+    @Override public String toString() { return source; }
+}
@@ -0,0 +1,345 @@
+package dev.sergiferry.languages.api.minecraft;
+
+import com.google.gson.stream.JsonReader;
+import dev.sergiferry.languages.api.Language;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creado por SergiFerry el 18/10/2026
+ *
+ * Compact binary index of the vanilla language files, built once from the {@code resources/minecraft} JSON files and
+ * kept in the data folder. It holds a sorted key dictionary shared by every language, front coded in blocks of
+ * {@value #BLOCK_SIZE} keys, and one section per language with a presence bitmap, an offset table and the UTF-8
+ * values. Loading a language maps its section and copies the arrays, without parsing any JSON.
+ * <p>
+ * File layout: header ({@code magic, format, stamp}), dictionary, language sections, and the directory of the
+ * sections, whose position is the last long of the file.
+ */
+final class MinecraftLangIndex {
+
+    protected static final String FILE_NAME = "minecraft_translations.idx";
+
+    private static final int MAGIC = 0x4C414E47;
+    private static final int FORMAT = 1;
+    private static final int BLOCK_SIZE = 16;
+
+    private final File file;
+    private final String stamp;
+    private final int keyCount;
+    private final String[] heads;
+    private final char[] prefixes;
+    private final int[] suffixStarts;
+    private final char[] suffixes;
+    private final int maxKeyLength;
+    private final Map<String, long[]> sections;
+
+    private MinecraftLangIndex(File file, String stamp, String[] keys, Map<String, long[]> sections){
+        this.file = file;
+        this.stamp = stamp;
+        this.keyCount = keys.length;
+        this.heads = new String[(keys.length + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        this.prefixes = new char[keys.length];
+        this.suffixStarts = new int[keys.length + 1];
+        this.sections = sections;
+        StringBuilder suffixes = new StringBuilder();
+        int maxKeyLength = 0;
+        for(int i = 0; i < keys.length; i++){
+            String key = keys[i];
+            int prefix = i % BLOCK_SIZE == 0 ? 0 : commonPrefix(keys[i - 1], key);
+            if(i % BLOCK_SIZE == 0) heads[i / BLOCK_SIZE] = key;
+            prefixes[i] = (char) prefix;
+            suffixStarts[i] = suffixes.length();
+            suffixes.append(key, prefix, key.length());
+            maxKeyLength = Math.max(maxKeyLength, key.length());
+        }
+        this.suffixStarts[keys.length] = suffixes.length();
+        this.suffixes = suffixes.toString().toCharArray();
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    private static int commonPrefix(String a, String b){
+        int max = Math.min(Math.min(a.length(), b.length()), Character.MAX_VALUE);
+        int i = 0;
+        while(i < max && a.charAt(i) == b.charAt(i)) i++;
+        return i;
+    }
+
+    /**
+     * @param file Index file
+     * @param stamp Expected stamp, the index is not opened if it was built from other files
+     * @return the opened index, or {@code null} if the file does not exist, is outdated or is not valid
+     */
+    @Nullable
+    protected static MinecraftLangIndex open(@Nonnull File file, @Nonnull String stamp){
+        if(!file.isFile()) return null;
+        try(RandomAccessFile access = new RandomAccessFile(file, "r")){
+            if(access.length() < 16) return null;
+            DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(access.getFD())));
+            if(input.readInt() != MAGIC || input.readInt() != FORMAT || !input.readUTF().equals(stamp)) return null;
+            int keyCount = input.readInt();
+            String[] keys = new String[keyCount];
+            String previous = "";
+            for(int i = 0; i < keyCount; i++){
+                int prefix = input.readUnsignedShort();
+                previous = previous.substring(0, prefix) + input.readUTF();
+                keys[i] = previous;
+            }
+            access.seek(access.length() - 8);
+            access.seek(access.readLong());
+            int languageCount = access.readInt();
+            Map<String, long[]> sections = new HashMap<>();
+            for(int i = 0; i < languageCount; i++) sections.put(access.readUTF(), new long[] { access.readLong(), access.readLong() });
+            return new MinecraftLangIndex(file, stamp, keys, sections);
+        }
+        catch (IOException | RuntimeException e){ return null; }
+    }
+
+    /**
+     * Builds the index from the JSON files of every language, in two streaming passes: the first one collects the
+     * keys and the second one writes the values, so the JSON trees are never kept in memory.
+     *
+     * @param file Index file, replaced when the index is written
+     * @param stamp Stamp of the JSON files
+     * @param source Opens the JSON file of a language, or returns {@code null} if it has none
+     */
+    @Nonnull
+    protected static MinecraftLangIndex build(@Nonnull File file, @Nonnull String stamp, @Nonnull ResourceOpener source) throws IOException {
+        List<Language> languages = new ArrayList<>();
+        TreeSet<String> sortedKeys = new TreeSet<>();
+        for(Language language : Language.getAllLanguages()){
+            if(language.getMinecraftFileName() == null || languages.stream().anyMatch(x-> x.getMinecraftFileName().equals(language.getMinecraftFileName()))) continue;
+            try(JsonReader reader = open(source, language)){
+                if(reader == null) continue;
+                reader.beginObject();
+                while(reader.hasNext()){
+                    sortedKeys.add(reader.nextName());
+                    reader.skipValue();
+                }
+            }
+            languages.add(language);
+        }
+        String[] keys = sortedKeys.toArray(new String[0]);
+        Map<String, Integer> keyIndex = new HashMap<>(keys.length * 2);
+        for(int i = 0; i < keys.length; i++) keyIndex.put(keys[i], i);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if(parent != null) parent.mkdirs();
+        File temporary = new File(parent, file.getName() + ".tmp");
+        Map<String, long[]> sections = new HashMap<>();
+        try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary), 1 << 16))){
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT);
+            output.writeUTF(stamp);
+            output.writeInt(keys.length);
+            for(int i = 0; i < keys.length; i++){
+                int prefix = i == 0 ? 0 : commonPrefix(keys[i - 1], keys[i]);
+                output.writeShort(prefix);
+                output.writeUTF(keys[i].substring(prefix));
+            }
+            for(Language language : languages){
+                String[] values = new String[keys.length];
+                try(JsonReader reader = open(source, language)){
+                    reader.beginObject();
+                    while(reader.hasNext()){
+                        int index = keyIndex.get(reader.nextName());
+                        values[index] = reader.nextString();
+                    }
+                }
+                long start = output.size();
+                writeSection(output, values);
+                sections.put(language.getMinecraftFileName(), new long[] { start, output.size() - start });
+            }
+            long directory = output.size();
+            output.writeInt(sections.size());
+            for(Map.Entry<String, long[]> entry : sections.entrySet()){
+                output.writeUTF(entry.getKey());
+                output.writeLong(entry.getValue()[0]);
+                output.writeLong(entry.getValue()[1]);
+            }
+            output.writeLong(directory);
+        }
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return new MinecraftLangIndex(file, stamp, keys, sections);
+    }
+
+    @Nullable
+    private static JsonReader open(ResourceOpener source, Language language) throws IOException {
+        InputStream inputStream = source.open(language);
+        if(inputStream == null) return null;
+        return new JsonReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+    }
+
+    private static void writeSection(DataOutputStream output, String[] values) throws IOException {
+        long[] present = new long[(values.length + 63) / 64];
+        int[] offsets = new int[values.length + 1];
+        ByteArrayOutputStream blob = new ByteArrayOutputStream(1 << 16);
+        for(int i = 0; i < values.length; i++){
+            offsets[i] = blob.size();
+            if(values[i] == null) continue;
+            present[i >>> 6] |= 1L << i;
+            blob.write(values[i].getBytes(StandardCharsets.UTF_8));
+        }
+        offsets[values.length] = blob.size();
+        for(long bits : present) output.writeLong(bits);
+        for(int offset : offsets) output.writeInt(offset);
+        blob.writeTo(output);
+    }
+
+    /**
+     * @param language Language
+     * @return the values of that language, mapped from the index file, or {@code null} if the index does not have it
+     */
+    @Nullable
+    protected Table load(@Nonnull Language language) throws IOException {
+        if(language.getMinecraftFileName() == null) return null;
+        long[] section = sections.get(language.getMinecraftFileName());
+        if(section == null) return null;
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, section[0], section[1]);
+            long[] present = new long[(keyCount + 63) / 64];
+            int[] offsets = new int[keyCount + 1];
+            buffer.asLongBuffer().get(present);
+            buffer.position(present.length * 8);
+            buffer.asIntBuffer().get(offsets);
+            buffer.position(present.length * 8 + offsets.length * 4);
+            byte[] values = new byte[offsets[keyCount]];
+            buffer.get(values);
+            return new Table(this, present, offsets, values);
+        }
+    }
+
+    /**
+     * @return position of the key in the dictionary, or -1
+     */
+    protected int indexOf(@Nonnull String key){
+        int low = 0, high = heads.length - 1;
+        while(low <= high){
+            int middle = (low + high) >>> 1;
+            int compare = heads[middle].compareTo(key);
+            if(compare < 0) low = middle + 1;
+            else if(compare > 0) high = middle - 1;
+            else return middle * BLOCK_SIZE;
+        }
+        if(high < 0) return -1;
+        String head = heads[high];
+        int matched = commonPrefix(head, key);
+        int end = Math.min(keyCount, (high + 1) * BLOCK_SIZE);
+        for(int i = high * BLOCK_SIZE + 1; i < end; i++){
+            // Every previous key is lower than the key and shares its first matched chars with it
+            int prefix = prefixes[i];
+            if(prefix > matched) continue;
+            if(prefix < matched) return -1;
+            int start = suffixStarts[i], length = suffixStarts[i + 1] - start;
+            int j = 0;
+            while(j < length && matched + j < key.length() && suffixes[start + j] == key.charAt(matched + j)) j++;
+            if(j == length){
+                if(matched + j == key.length()) return i;
+                matched += j;
+                continue;
+            }
+            if(matched + j == key.length() || suffixes[start + j] > key.charAt(matched + j)) return -1;
+            matched += j;
+        }
+        return -1;
+    }
+
+    /**
+     * @param index Position in the dictionary
+     * @return the key at that position
+     */
+    @Nonnull
+    protected String getKey(int index){
+        int head = index - index % BLOCK_SIZE;
+        char[] buffer = new char[maxKeyLength];
+        heads[head / BLOCK_SIZE].getChars(0, heads[head / BLOCK_SIZE].length(), buffer, 0);
+        int length = heads[head / BLOCK_SIZE].length();
+        for(int i = head + 1; i <= index; i++){
+            int suffix = suffixStarts[i + 1] - suffixStarts[i];
+            System.arraycopy(suffixes, suffixStarts[i], buffer, prefixes[i], suffix);
+            length = prefixes[i] + suffix;
+        }
+        return new String(buffer, 0, length);
+    }
+
+    protected int getKeyCount() { return keyCount; }
+
+    @Nonnull protected String getStamp() { return stamp; }
+
+    @Nonnull protected File getFile() { return file; }
+
+    @FunctionalInterface
+    protected interface ResourceOpener {
+
+        @Nullable InputStream open(@Nonnull Language language) throws IOException;
+    }
+
+    /**
+     * Values of a language in the index. Values are decoded from UTF-8 the first time they are read.
+     */
+    protected static final class Table implements MinecraftTranslation.LangTable {
+
+        private final MinecraftLangIndex index;
+        private final long[] present;
+        private final int[] offsets;
+        private final byte[] values;
+        private final String[] decoded;
+        private final AtomicLong decodedBytes;
+
+        private Table(MinecraftLangIndex index, long[] present, int[] offsets, byte[] values){
+            this.index = index;
+            this.present = present;
+            this.offsets = offsets;
+            this.values = values;
+            this.decoded = new String[index.keyCount];
+            this.decodedBytes = new AtomicLong();
+        }
+
+        @Nullable
+        @Override
+        public String get(@Nonnull String key){
+            int i = index.indexOf(key);
+            return i == -1 ? null : get(i);
+        }
+
+        @Nullable
+        private String get(int i){
+            if((present[i >>> 6] & (1L << i)) == 0) return null;
+            String value = decoded[i];
+            if(value != null) return value;
+            value = new String(values, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+            decoded[i] = value;
+            decodedBytes.addAndGet(40 + 2L * value.length());
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(@Nonnull String key){
+            int i = index.indexOf(key);
+            return i != -1 && (present[i >>> 6] & (1L << i)) != 0;
+        }
+
+        @Nonnull
+        @Override
+        public List<String> getKeys(){
+            List<String> keys = new ArrayList<>();
+            for(int i = 0; i < index.keyCount; i++) if((present[i >>> 6] & (1L << i)) != 0) keys.add(index.getKey(i));
+            return keys;
+        }
+
+        /**
+         * @return size of the arrays, and an estimate of the decoded strings kept, counted when they are decoded
+         */
+        @Override
+        public long getRetainedBytes(){ return present.length * 8L + offsets.length * 4L + values.length + decoded.length * 4L + decodedBytes.get(); }
+    }
+}
@@ -1,11 +1,11 @@
 package dev.sergiferry.languages.api.minecraft;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import dev.sergiferry.languages.LanguagesPlugin;
 import dev.sergiferry.languages.api.Language;
 import dev.sergiferry.languages.api.LanguagesAPI;
 import dev.sergiferry.languages.api.minecraft.sorts.*;
+import dev.sergiferry.languages.debug.DebugManager;
 import dev.sergiferry.spigot.server.ServerVersion;
 import org.apache.commons.lang.Validate;
 import org.bukkit.*;
@@ -25,12 +25,21 @@ import oshi.util.tuples.Pair;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.*;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -52,13 +61,123 @@ public abstract class MinecraftTranslation {
         return biMinecraftTranslation.getTranslatedMessage();
     }
 
-    protected static <F> String getTranslation(Language language, SingleType<F> type, F firstObject){ return getResult(language, type, firstObject).getFinalResult(); }
+    /**
+     * Gets the translation from the lookup table of the type and language, filled the first time each value is found.
+     * {@link Type#CUSTOM} codes, numbers and {@code null} objects are not kept, they are looked up every time.
+     */
+    protected static <F> String getTranslation(Language language, SingleType<F> type, F firstObject){
+        if(language == null) language = LanguagesAPI.getServerLanguage();
+        if(firstObject == null) return getResult(language, type, firstObject).getFinalResult();
+        return type.getTranslation(language, firstObject);
+    }
+
+    protected static <F, S> String getTranslation(Language language, BiType<F, S> type, F firstObject, S secondObject){
+        if(language == null) language = LanguagesAPI.getServerLanguage();
+        if(firstObject == null || secondObject == null) return getResult(language, type, firstObject, secondObject).getFinalResult();
+        return type.getTranslation(language, firstObject, secondObject);
+    }
+
+    /**
+     * Opens the binary index of the vanilla language files and preloads the available languages as configured in
+     * {@link LanguagesAPI#getMinecraftPreload()}, called when LanguagesAPI is enabled.
+     */
+    public static void enable(@Nonnull LanguagesPlugin plugin){
+        Type.clearTables();
+        LangReader.start();
+        LangReader.loadIndex(plugin);
+        Preload preload = LanguagesAPI.getMinecraftPreload();
+        Set<Language> languages = new LinkedHashSet<>();
+        languages.add(LanguagesAPI.getServerLanguage());
+        languages.add(Language.en_US);
+        if(preload != Preload.LAZY) languages.addAll(LanguagesAPI.getAvailableLanguages());
+        LangReader.preload(plugin, languages, preload == Preload.EAGER);
+    }
+
+    /**
+     * Stops the loader threads and drops the loaded vanilla translations, called when LanguagesAPI is disabled.
+     */
+    public static void disable(){
+        LangReader.shutdown();
+        Type.clearTables();
+    }
+
+    public enum Preload {
+        /** Loads the available languages in parallel while the server starts, waiting for them, while they fit in the memory budget. */
+        EAGER,
+        /** Loads each language the first time it is used, only the server language and {@code en_US} are loaded in the background. */
+        LAZY,
+        /** Loads the available languages in parallel in the background while they fit in the memory budget, used languages are loaded first if needed. */
+        LAZY_WARMUP;
+
+        public static Optional<Preload> grabPreload(@Nullable String name){
+            if(name == null) return Optional.empty();
+            return Arrays.stream(values()).filter(x-> x.name().equalsIgnoreCase(name.replace('-', '_'))).findFirst();
+        }
+    }
+
+    /**
+     * @return if the vanilla translations of that language are loaded, so reading them does not block
+     */
+    public static boolean isLoaded(@Nonnull Language language){ return LangReader.isLoaded(language); }
+
+    /**
+     * Loads the vanilla translations of that language on a loader thread, if they are not loaded or being loaded.
+     *
+     * @return future completed when the language is loaded, with {@code false} if it is not available
+     */
+    @Nonnull
+    public static CompletableFuture<Boolean> load(@Nonnull Language language){
+        Validate.notNull(language, "Language cannot be null");
+        return LangReader.load(language, true).thenApply(table -> table != null);
+    }
 
-    protected static <F, S> String getTranslation(Language language, BiType<F, S> type, F firstObject, S secondObject){ return getResult(language, type, firstObject, secondObject).getFinalResult(); }
+    /**
+     * Gets the translation without blocking: if the language is not loaded yet, it starts loading it on a loader
+     * thread and returns empty, so the caller can use a placeholder text or try again later.
+     */
+    @Nonnull
+    public static Optional<String> getTranslationIfLoaded(@Nonnull Language language, @Nonnull String code){
+        if(!isLoaded(language)){
+            load(language);
+            return Optional.empty();
+        }
+        return Optional.of(getTranslation(language, code));
+    }
+
+    /**
+     * Evicts the least recently used vanilla translations that do not fit in the memory budget, see
+     * {@link LanguagesAPI#getMinecraftMemoryBudget()}. The server language, {@code en_US} and the languages of online
+     * players are never evicted. Must be called on the main thread.
+     */
+    public static void trimToMemoryBudget(){ LangReader.trim(); }
+
+    /**
+     * @return the languages that cannot be evicted right now
+     */
+    @Nonnull public static Set<Language> getPinnedLanguages() { return LangReader.getPinnedLanguages(); }
+
+    @Nonnull public static Stats getStats() { return LangReader.getStats(); }
+
+    /**
+     * Memory usage of the loaded vanilla translations.
+     *
+     * @param languages Retained bytes of each loaded language
+     * @param retainedBytes Retained bytes of every loaded language
+     * @param memoryBudget Memory budget in bytes, or 0 if there is no budget
+     * @param evictions Languages evicted since the server started
+     * @param reloads Evicted languages that were loaded again
+     */
+    public record Stats(Map<Language, Long> languages, long retainedBytes, long memoryBudget, long evictions, long reloads){ }
 
     public static boolean existTranslation(String code) { return LangReader.existsKey(code); }
     public static boolean containsTranslation(Language language, String code) { return LangReader.containsKey(language, code); }
 
+    /**
+     * Gets the translation of a vanilla key. Off the main thread this waits if the language is still being loaded. On
+     * the main thread it never waits for it: it starts loading the language and uses the server language or
+     * {@code en_US} meanwhile, which are loaded on startup. Values rendered with the fallback are dropped from the caches
+     * when the language finishes loading.
+     */
     public static String getTranslation(Language language, String code) { return getTranslation(language, Type.CUSTOM, code); }
     public static String getTranslation(Player player, String code) { return getTranslation(LanguagesAPI.getLanguage(player), code); }
 
@@ -176,6 +295,11 @@ public abstract class MinecraftTranslation {
 
     public Type getType() { return type; }
 
+    private static String replaceFirst(String pattern, String target, String replacement){
+        int index = pattern.indexOf(target);
+        if(index == -1) return pattern;
+        return pattern.substring(0, index) + replacement + pattern.substring(index + target.length());
+    }
 
     protected static class SingleMinecraftTranslation<F> extends MinecraftTranslation{
 
@@ -199,7 +323,7 @@ public abstract class MinecraftTranslation {
             if(f == null || f.equals("")) throw new IllegalStateException("No first object detected correctly.");
             if(getType().getFirstTypeClass().equals(PotionEffectType.class) && f.equals("effect.none")) return f;
             if(getType().getFirstTypeClass().equals(EntityType.class) && f.equals("entity.notFound")) return f;
-            return type.getKeyPattern().replaceFirst(F, f);
+            return replaceFirst(type.getKeyPattern(), F, f);
         }
     }
 
@@ -229,13 +353,15 @@ public abstract class MinecraftTranslation {
             String f = getType().getFirstKeyFunction().apply(firstObject, secondObject), s = getType().getSecondKeyFunction().apply(firstObject, secondObject);
             if(f == null || f.equals("")) throw new IllegalStateException("No first object detected correctly.");
             if(s == null || s.equals("")) throw new IllegalStateException("No second object detected correctly.");
-            return type.getKeyPattern().replaceFirst(F, f).replaceFirst(S, s);
+            return replaceFirst(replaceFirst(type.getKeyPattern(), F, f), S, s);
         }
     }
 
 
     protected static class Type{
 
+        private static final List<Type> TYPES = new ArrayList<>();
+
         private static final Function<PotionEffectType, String> POTION_EFFECT_TYPE_STRING_FUNCTION = x -> {
             if(x == null || ServerVersion.getServerVersion().isOlderThanOrEqual(ServerVersion.VERSION_1_17_1)) return "effect.none";
             return x.getKey().getKey();
@@ -372,12 +498,53 @@ public abstract class MinecraftTranslation {
 
         private final String keyPattern;
         private final String name;
+        private volatile Object[] tables;
 
         private Type(String name, String keyPattern){
             this.name = name;
             this.keyPattern = keyPattern;
+            TYPES.add(this);
+        }
+
+        /**
+         * Drops the lookup tables of every type, needed when the server or available languages change.
+         */
+        protected static void clearTables(){ TYPES.forEach(type -> type.tables = null); }
+
+        /**
+         * Drops the lookup tables of every type for that language, so the values of an evicted language are released.
+         */
+        protected static void clearTables(@Nonnull Language language){ TYPES.forEach(type -> type.clearTable(language)); }
+
+        private synchronized void clearTable(Language language){
+            Object[] tables = this.tables;
+            int index = language.getIndex();
+            if(tables != null && index < tables.length) tables[index] = null;
+        }
+
+        /**
+         * @return the lookup table of this type for that language, a {@code String[]} by ordinal for enum objects or a
+         *         map for other objects
+         */
+        protected Object getTable(Language language){
+            Object[] tables = this.tables;
+            int index = language.getIndex();
+            if(tables != null && index < tables.length && tables[index] != null) return tables[index];
+            return createTable(language);
         }
 
+        private synchronized Object createTable(Language language){
+            int index = language.getIndex();
+            Object[] tables = this.tables;
+            if(tables != null && index < tables.length && tables[index] != null) return tables[index];
+            tables = tables == null ? new Object[Math.max(index + 1, Language.getIndexedCount())] : Arrays.copyOf(tables, Math.max(index + 1, Math.max(tables.length, Language.getIndexedCount())));
+            tables[index] = newTable();
+            this.tables = tables;
+            return tables[index];
+        }
+
+        protected Object newTable(){ return new ConcurrentHashMap<>(); }
+
         public String getName() { return name; }
 
         @Override
@@ -413,11 +580,13 @@ public abstract class MinecraftTranslation {
 
         private final Function<F, String> firstKeyFunction;
         private final Class<F> firstTypeClass;
+        private final boolean cached;
 
         private SingleType(String name, Class<F> firstTypeClass, String codePattern, Function<F, String> firstKeyFunction) {
             super(name, codePattern);
             this.firstTypeClass = firstTypeClass;
             this.firstKeyFunction = firstKeyFunction;
+            this.cached = firstTypeClass != String.class && !Number.class.isAssignableFrom(firstTypeClass);
         }
 
         public Function<F, String> getFirstKeyFunction() { return firstKeyFunction; }
@@ -428,6 +597,34 @@ public abstract class MinecraftTranslation {
             if(!hasAnnotation()) return false;
             return getAnnotation().first();
         }
+
+        @Override
+        protected Object newTable(){
+            if(firstTypeClass.isEnum()) return new String[firstTypeClass.getEnumConstants().length];
+            return super.newTable();
+        }
+
+        /**
+         * Gets the translation from the lookup table, storing it if it is found. Codes and numbers are not kept, since
+         * any value can be passed and the table would grow without bound.
+         */
+        protected String getTranslation(Language language, F firstObject){
+            if(!cached) return getResult(language, this, firstObject).getFinalResult();
+            Object table = getTable(language);
+            if(table instanceof String[] values && firstObject instanceof Enum<?> constant){
+                String value = values[constant.ordinal()];
+                if(value != null) return value;
+                Result result = getResult(language, this, firstObject);
+                if(result.isFound()) values[constant.ordinal()] = result.getFinalResult();
+                return result.getFinalResult();
+            }
+            Map<F, String> values = (Map<F, String>) table;
+            String value = values.get(firstObject);
+            if(value != null) return value;
+            Result result = getResult(language, this, firstObject);
+            if(result.isFound()) values.put(firstObject, result.getFinalResult());
+            return result.getFinalResult();
+        }
     }
 
     protected static class BiType<F, S> extends Type{
@@ -436,11 +633,13 @@ public abstract class MinecraftTranslation {
         private final BiFunction<F, S, String> secondKeyFunction;
         private final Class<F> firstTypeClass;
         private final Class<S> secondTypeClass;
+        private final int secondCount;
 
         private BiType(String name, Class<F> firstTypeClass, Class<S> secondTypeClass, String codePattern, BiFunction<F, S, String> firstKeyFunction, BiFunction<F, S, String> secondKeyFunction) {
             super(name,codePattern);
             this.firstTypeClass = firstTypeClass;
             this.secondTypeClass = secondTypeClass;
+            this.secondCount = secondTypeClass.isEnum() ? secondTypeClass.getEnumConstants().length : 0;
             this.firstKeyFunction = firstKeyFunction;
             this.secondKeyFunction = secondKeyFunction;
         }
@@ -462,6 +661,31 @@ public abstract class MinecraftTranslation {
             if(!hasAnnotation()) return false;
             return getAnnotation().second();
         }
+
+        @Override
+        protected Object newTable(){
+            if(firstTypeClass.isEnum() && secondTypeClass.isEnum()) return new String[firstTypeClass.getEnumConstants().length * secondCount];
+            return super.newTable();
+        }
+
+        protected String getTranslation(Language language, F firstObject, S secondObject){
+            Object table = getTable(language);
+            if(table instanceof String[] values && firstObject instanceof Enum<?> first && secondObject instanceof Enum<?> second){
+                int index = first.ordinal() * secondCount + second.ordinal();
+                String value = values[index];
+                if(value != null) return value;
+                Result result = getResult(language, this, firstObject, secondObject);
+                if(result.isFound()) values[index] = result.getFinalResult();
+                return result.getFinalResult();
+            }
+            Map<List<Object>, String> values = (Map<List<Object>, String>) table;
+            List<Object> key = List.of(firstObject, secondObject);
+            String value = values.get(key);
+            if(value != null) return value;
+            Result result = getResult(language, this, firstObject, secondObject);
+            if(result.isFound()) values.put(key, result.getFinalResult());
+            return result.getFinalResult();
+        }
     }
 
     private static class FindTask{
@@ -479,13 +703,15 @@ public abstract class MinecraftTranslation {
 
         @Nonnull
         private Pair<Language, String> task(Language language){
+            String key = translation.getKey();
+            String value;
             if(language != null){
-                if(LangReader.containsKey(language, translation.getKey())) return new Pair<>(language, LangReader.getValue(language, translation.getKey()));
-                Language similar = language.getSimilarLanguages().stream().filter(x-> !x.equals(language) && LangReader.containsKey(x, translation.getKey())).findFirst().orElse(null);
-                if(similar != null && LangReader.containsKey(similar, translation.getKey())) return new Pair<>(similar, LangReader.getValue(similar, translation.getKey()));
+                if((value = LangReader.getValue(language, key)) != null) return new Pair<>(language, value);
+                for(Language similar : language.getSimilarLanguages()) if(!similar.equals(language) && (value = LangReader.getValue(similar, key)) != null) return new Pair<>(similar, value);
             }
-            if(!language.equals(LanguagesAPI.getServerLanguage()) && LangReader.containsKey(LanguagesAPI.getServerLanguage(), translation.getKey())) return new Pair<>(LanguagesAPI.getServerLanguage(), LangReader.getValue(LanguagesAPI.getServerLanguage(), translation.getKey()));
-            if(!language.equals(Language.en_US) && LangReader.containsKey(Language.en_US, translation.getKey())) return new Pair<>(Language.en_US, LangReader.getValue(Language.en_US, translation.getKey()));
+            Language serverLanguage = LanguagesAPI.getServerLanguage();
+            if(!language.equals(serverLanguage) && (value = LangReader.getValue(serverLanguage, key)) != null) return new Pair<>(serverLanguage, value);
+            if(!language.equals(Language.en_US) && (value = LangReader.getValue(Language.en_US, key)) != null) return new Pair<>(Language.en_US, value);
             return new Pair<>(language, null);
         }
 
@@ -537,46 +763,390 @@ public abstract class MinecraftTranslation {
         }
     }
 
+    /**
+     * Vanilla translations of a language, loaded by {@link LangReader}.
+     */
+    protected interface LangTable {
+
+        @Nullable String get(@Nonnull String key);
+
+        boolean containsKey(@Nonnull String key);
+
+        @Nonnull List<String> getKeys();
+
+        /**
+         * @return approximate heap used by this table, in bytes
+         */
+        long getRetainedBytes();
+    }
+
     protected static class LangReader{
 
-        private static Map<Language, JsonObject> JSON_CACHE;
+        private static final long ACCESS_PRECISION = TimeUnit.SECONDS.toNanos(1);
+
+        private static final Map<Language, Slot> TABLES;
+        private static final Set<Language> EVICTED;
+        private static final AtomicLong EVICTIONS;
+        private static final AtomicLong RELOADS;
+        private static volatile ExecutorService EXECUTOR;
+        private static volatile MinecraftLangIndex INDEX;
 
         static{
-            JSON_CACHE = new HashMap<>();
+            TABLES = new ConcurrentHashMap<>();
+            EVICTED = ConcurrentHashMap.newKeySet();
+            EVICTIONS = new AtomicLong();
+            RELOADS = new AtomicLong();
         }
 
         private LangReader() {}
 
-        private static boolean read(Language language) {
-            if(!LanguagesAPI.getAvailableLanguages().contains(language)) return false;
+        /**
+         * Starts the loader threads, bounded to the cores, called when LanguagesAPI is enabled.
+         */
+        protected static synchronized void start(){
+            if(EXECUTOR != null) return;
+            AtomicInteger threads = new AtomicInteger();
+            EXECUTOR = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+                Thread thread = new Thread(runnable, "LanguagesAPI Minecraft Translations #" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        /**
+         * Stops the loader threads and drops every table, so nothing keeps the plugin loaded after it is disabled. Loads
+         * that did not finish are cancelled.
+         */
+        protected static synchronized void shutdown(){
+            ExecutorService executor = EXECUTOR;
+            EXECUTOR = null;
+            if(executor != null) executor.shutdownNow();
+            TABLES.values().forEach(slot -> slot.future.cancel(false));
+            TABLES.clear();
+            EVICTED.clear();
+            INDEX = null;
+        }
+
+        /**
+         * Opens the binary index of the vanilla files from the data folder, or builds it asynchronously if it does not
+         * exist or was built by another version. Until it is ready, languages are read from the JSON files.
+         */
+        protected static void loadIndex(@Nonnull LanguagesPlugin plugin){
+            File file = new File(plugin.getDataFolder(), MinecraftLangIndex.FILE_NAME);
+            String stamp = plugin.getDescription().getVersion() + "/" + Language.getAllLanguages().size();
+            MinecraftLangIndex index = MinecraftLangIndex.open(file, stamp);
+            if(index != null){
+                INDEX = index;
+                return;
+            }
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                long start = System.currentTimeMillis();
+                try {
+                    MinecraftLangIndex built = MinecraftLangIndex.build(file, stamp, language -> LangReader.class.getClassLoader().getResourceAsStream(String.format(Language.MINECRAFT_TRANSLATIONS_FILE_PATH, language.getMinecraftFileName())));
+                    Bukkit.getScheduler().runTask(plugin, () -> {
+                        INDEX = built;
+                        TABLES.forEach(LangReader::swapToIndex);
+                        Bukkit.getConsoleSender().sendMessage(plugin.getPrefix() + "§7Built Minecraft translations index (" + built.getKeyCount() + " keys, " + (file.length() / 1024) + " KB) in " + (System.currentTimeMillis() - start) + " ms.");
+                    });
+                }
+                catch (IOException | RuntimeException e){
+                    Bukkit.getConsoleSender().sendMessage(plugin.getPrefix() + "§cMinecraft translations index could not be built, JSON files will be used.");
+                    DebugManager.print(e);
+                }
+            });
+        }
+
+        /**
+         * Reads the table of a language loaded from its JSON file again from the index, on the loader threads, and swaps
+         * it in when it is ready. Readers keep the JSON table until then, so they never wait for it.
+         */
+        private static void swapToIndex(Language language, Slot slot){
+            ExecutorService executor = EXECUTOR;
+            if(executor == null) return;
+            slot.future.thenAcceptAsync(previous -> {
+                if(previous == null || previous instanceof MinecraftLangIndex.Table) return;
+                try {
+                    LangTable table = read(language);
+                    if(table == null) return;
+                    Slot swapped = new Slot();
+                    swapped.lastAccess = slot.lastAccess;
+                    swapped.future.complete(table);
+                    TABLES.replace(language, slot, swapped);
+                }
+                catch (IOException | RuntimeException e){ DebugManager.print(e); }
+            }, executor);
+        }
+
+        /**
+         * Loads the tables of those languages in parallel on the loader threads, bounded to the cores, and reports the
+         * time spent and the memory retained by each language. Pinned languages are always loaded. The others are only
+         * warmed while the loaded tables fit in the memory budget, the rest are loaded when they are used.
+         *
+         * @param wait Wait until every language is loaded, or report it when they finish
+         */
+        protected static void preload(@Nonnull LanguagesPlugin plugin, @Nonnull Collection<Language> languages, boolean wait){
+            long start = System.nanoTime();
+            long budget = LanguagesAPI.getMinecraftMemoryBudget();
+            Set<Language> pinned = getPinnedLanguages();
+            Map<Language, Long> times = new ConcurrentHashMap<>();
+            List<CompletableFuture<LangTable>> loads = new ArrayList<>();
+            Deque<Language> warmup = new ConcurrentLinkedDeque<>();
+            for(Language language : languages){
+                if(budget <= 0 || pinned.contains(language)) loads.add(timed(language, start, times));
+                else warmup.add(language);
+            }
+            int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            CompletableFuture<Void> all = CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).handle((x, error) -> null).thenCompose(x -> {
+                List<CompletableFuture<Void>> warmers = new ArrayList<>();
+                for(int i = 0; i < workers; i++) warmers.add(warm(warmup, budget, start, times));
+                return CompletableFuture.allOf(warmers.toArray(new CompletableFuture[0]));
+            });
+            Runnable report = () -> {
+                long bytes = 0;
+                int loaded = 0;
+                StringBuilder details = new StringBuilder();
+                for(Language language : languages){
+                    Slot slot = TABLES.get(language);
+                    Long time = times.get(language);
+                    if(slot == null || !slot.isLoaded() || time == null) continue;
+                    long retained = slot.getRetainedBytes();
+                    loaded++;
+                    bytes += retained;
+                    details.append("\n§7- ").append(language.getConsoleName()).append(": §a").append(retained / 1024).append(" KB §7in ").append(time / 1_000_000).append(" ms");
+                }
+                String skipped = warmup.isEmpty() ? "" : " §e" + warmup.size() + " §7more will be loaded when used, to fit in the memory budget.";
+                Bukkit.getConsoleSender().sendMessage(plugin.getPrefix() + "§7Loaded Minecraft translations of §a" + loaded + " §7languages (§a" + (bytes / 1024) + " KB§7) in §a" + ((System.nanoTime() - start) / 1_000_000) + " ms§7." + skipped + details);
+            };
+            if(wait){
+                all.join();
+                report.run();
+            }
+            else all.thenRun(() -> Bukkit.getScheduler().runTask(plugin, report));
+        }
+
+        private static CompletableFuture<LangTable> timed(Language language, long start, Map<Language, Long> times){
+            return load(language, true).whenComplete((table, error) -> {
+                if(table != null) times.put(language, System.nanoTime() - start);
+            });
+        }
+
+        /**
+         * Loads the pending languages one after another while they fit in the budget.
+         */
+        private static CompletableFuture<Void> warm(Deque<Language> pending, long budget, long start, Map<Language, Long> times){
+            if(!fitsBudget(budget)) return CompletableFuture.completedFuture(null);
+            Language language = pending.poll();
+            if(language == null) return CompletableFuture.completedFuture(null);
+            return timed(language, start, times).handle((x, error) -> null).thenCompose(x -> warm(pending, budget, start, times));
+        }
+
+        /**
+         * @return if one more table fits in the budget, counting the tables being loaded with the average size of the
+         *         loaded ones
+         */
+        private static boolean fitsBudget(long budget){
+            long held = 0;
+            int loaded = 0, loading = 0;
+            for(Slot slot : TABLES.values()){
+                if(slot.isLoaded()){
+                    held += slot.getRetainedBytes();
+                    loaded++;
+                }
+                else if(!slot.future.isDone()) loading++;
+            }
+            long average = loaded == 0 ? 0 : held / loaded;
+            return held + (loading + 1) * average <= budget;
+        }
+
+        @Nullable
+        private static LangTable read(Language language) throws IOException {
+            if(!LanguagesAPI.getAvailableLanguages().contains(language)) return null;
+            MinecraftLangIndex index = INDEX;
+            if(index != null){
+                LangTable table = index.load(language);
+                if(table != null) return table;
+            }
             InputStream inputStream = getFileFromResourceAsStream(String.format(Language.MINECRAFT_TRANSLATIONS_FILE_PATH, language.getMinecraftFileName()));
-            InputStreamReader streamReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-            BufferedReader reader = new BufferedReader(streamReader);
-            JSON_CACHE.put(language, new Gson().fromJson(reader, JsonObject.class));
-            return true;
+            try(JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))){
+                Map<String, String> values = new HashMap<>();
+                reader.beginObject();
+                while(reader.hasNext()) values.put(reader.nextName(), reader.nextString());
+                return new JsonTable(values);
+            }
         }
 
-        private static boolean check(Language language){
-            if(JSON_CACHE.containsKey(language)) return true;
-            return read(language);
+        /**
+         * Loads the table of a language once: concurrent callers get the same future, and the file is read a single
+         * time. Languages that are not available are not kept, so they are checked again on the next call.
+         *
+         * @param language Language
+         * @param async Read the file on the loader threads, or on this thread if nobody is reading it yet. The loader
+         *              threads are not the Bukkit scheduler, whose async tasks start on the next tick, so the main thread
+         *              can wait for a load started there without a deadlock
+         * @return future of the table, completed with {@code null} if the language is not available
+         */
+        @Nonnull
+        protected static CompletableFuture<LangTable> load(@Nonnull Language language, boolean async){ return slot(language, async).future; }
+
+        private static Slot slot(Language language, boolean async){
+            Slot slot = TABLES.get(language);
+            if(slot != null) return slot;
+            Slot created = new Slot();
+            slot = TABLES.putIfAbsent(language, created);
+            if(slot != null) return slot;
+            Runnable task = () -> {
+                try {
+                    LangTable table = read(language);
+                    if(table == null) TABLES.remove(language, created);
+                    else if(EVICTED.remove(language)) RELOADS.incrementAndGet();
+                    created.future.complete(table);
+                    if(table != null && created.missed) scheduleRefresh();
+                    if(table != null) scheduleTrim();
+                }
+                catch (IOException | RuntimeException e){
+                    TABLES.remove(language, created);
+                    created.future.completeExceptionally(e);
+                }
+            };
+            ExecutorService executor = EXECUTOR;
+            if(!async || executor == null) task.run();
+            else {
+                try { executor.execute(task); }
+                catch (RejectedExecutionException e) { task.run(); }
+            }
+            return created;
+        }
+
+        /**
+         * Gets the table of the language, waiting if another thread is loading it. The main thread only waits for the
+         * server language and {@code en_US}, the last fallbacks: other languages are loaded on the loader threads, and
+         * {@code null} is returned until they finish, so the lookup falls back.
+         *
+         * @return the table of the language, or {@code null} if not available or still loading on the main thread
+         */
+        @Nullable
+        private static LangTable table(Language language){
+            boolean wait = !Bukkit.isPrimaryThread() || language.equals(Language.en_US) || language.equals(LanguagesAPI.getServerLanguage());
+            Slot slot = slot(language, !wait);
+            long now = System.nanoTime();
+            if(now - slot.lastAccess > ACCESS_PRECISION) slot.lastAccess = now;
+            if(!wait && !slot.future.isDone()){
+                slot.missed = true;
+                if(!slot.future.isDone()) return null;
+            }
+            try { return slot.future.join(); }
+            catch (CompletionException | CancellationException e){
+                DebugManager.print(e);
+                return null;
+            }
+        }
+
+        protected static boolean isLoaded(@Nonnull Language language){
+            Slot slot = TABLES.get(language);
+            return slot != null && slot.isLoaded();
+        }
+
+        /**
+         * Drops the typed lookup tables and the cached results of every plugin, since they may hold values rendered with
+         * a fallback language while a language was loading.
+         */
+        private static void scheduleRefresh(){
+            LanguagesPlugin plugin = LanguagesPlugin.getInstance();
+            if(plugin == null || !plugin.isEnabled()) return;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Type.clearTables();
+                LanguagesAPI.getPluginNames().forEach(x-> LanguagesAPI.getPluginManager(x).invalidateTranslations());
+            });
+        }
+
+        private static void scheduleTrim(){
+            if(LanguagesAPI.getMinecraftMemoryBudget() <= 0) return;
+            LanguagesPlugin plugin = LanguagesPlugin.getInstance();
+            if(plugin != null && plugin.isEnabled()) Bukkit.getScheduler().runTask(plugin, LangReader::trim);
+        }
+
+        /**
+         * Evicts the least recently used tables until the loaded tables fit in the memory budget. The server language,
+         * {@code en_US} and the languages of online players are pinned and never evicted. Runs on the main thread.
+         */
+        protected static void trim(){
+            long budget = LanguagesAPI.getMinecraftMemoryBudget();
+            if(budget <= 0) return;
+            Set<Language> pinned = getPinnedLanguages();
+            List<Map.Entry<Language, Slot>> evictable = new ArrayList<>();
+            long held = 0;
+            for(Map.Entry<Language, Slot> entry : TABLES.entrySet()){
+                if(!entry.getValue().isLoaded()) continue;
+                held += entry.getValue().getRetainedBytes();
+                if(!pinned.contains(entry.getKey())) evictable.add(entry);
+            }
+            if(held <= budget) return;
+            evictable.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+            for(Map.Entry<Language, Slot> entry : evictable){
+                if(held <= budget) break;
+                if(!TABLES.remove(entry.getKey(), entry.getValue())) continue;
+                held -= entry.getValue().getRetainedBytes();
+                Type.clearTables(entry.getKey());
+                EVICTED.add(entry.getKey());
+                EVICTIONS.incrementAndGet();
+                DebugManager.debug("Evicted Minecraft translations of " + entry.getKey().getConsoleName());
+            }
+        }
+
+        @Nonnull
+        protected static Set<Language> getPinnedLanguages(){
+            Set<Language> pinned = new HashSet<>();
+            pinned.add(LanguagesAPI.getServerLanguage());
+            pinned.add(Language.en_US);
+            for(Player player : Bukkit.getOnlinePlayers()) pinned.add(LanguagesAPI.getLanguage(player));
+            return pinned;
+        }
+
+        @Nonnull
+        protected static Stats getStats(){
+            Map<Language, Long> languages = new LinkedHashMap<>();
+            long held = 0;
+            for(Map.Entry<Language, Slot> entry : TABLES.entrySet()){
+                if(!entry.getValue().isLoaded()) continue;
+                long bytes = entry.getValue().getRetainedBytes();
+                languages.put(entry.getKey(), bytes);
+                held += bytes;
+            }
+            return new Stats(Collections.unmodifiableMap(languages), held, LanguagesAPI.getMinecraftMemoryBudget(), EVICTIONS.get(), RELOADS.get());
+        }
+
+        /**
+         * Table of a language, loaded or being loaded, with the last time it was read.
+         */
+        private static final class Slot {
+
+            private final CompletableFuture<LangTable> future;
+            private volatile long lastAccess;
+            private volatile boolean missed;
+
+            private Slot(){
+                this.future = new CompletableFuture<>();
+                this.lastAccess = System.nanoTime();
+            }
+
+            private boolean isLoaded() { return future.isDone() && !future.isCompletedExceptionally() && future.getNow(null) != null; }
+
+            private long getRetainedBytes() { return isLoaded() ? future.getNow(null).getRetainedBytes() : 0; }
         }
 
         @Nullable
         protected static String getValue(@Nonnull Language language, @Nonnull String key) {
             Validate.notNull(language, "Language cannot be null");
             Validate.notNull(key, "Key cannot be null");
-            if(!check(language)) return null;
-            JsonElement element = JSON_CACHE.get(language).get(key);
-            if(element == null) return null;
-            return element.getAsString();
+            LangTable table = table(language);
+            return table == null ? null : table.get(key);
         }
 
         protected static boolean containsKey(@Nonnull Language language, @Nonnull String key){
             Validate.notNull(language, "Language cannot be null");
             Validate.notNull(key, "Key cannot be null");
-            check(language);
-            if(!JSON_CACHE.containsKey(language)) return false;
-            return JSON_CACHE.get(language).has(key);
+            LangTable table = table(language);
+            return table != null && table.containsKey(key);
         }
 
         protected static boolean existsKey(@Nonnull String key){
@@ -586,10 +1156,9 @@ public abstract class MinecraftTranslation {
         @Nonnull
         protected static List<String> getKeys(@Nonnull Language language) {
             Validate.notNull(language, "Language cannot be null");
-            Validate.isTrue(check(language), "Minecraft Translations for this language cannot be accesses right now.");
-            List<String> keys = new ArrayList<>();
-            for (Map.Entry<String, JsonElement> entry : JSON_CACHE.get(language).entrySet()) keys.add(entry.getKey());
-            return Collections.unmodifiableList(keys);
+            LangTable table = table(language);
+            Validate.isTrue(table != null, "Minecraft Translations for this language cannot be accesses right now.");
+            return Collections.unmodifiableList(table.getKeys());
         }
 
         @Nonnull
@@ -600,5 +1169,24 @@ public abstract class MinecraftTranslation {
             if (inputStream == null) throw new IllegalArgumentException("Filepath not found: " + path);
             return inputStream;
         }
+
+        /**
+         * Values read from the JSON file, used until the binary index is built.
+         */
+        private record JsonTable(Map<String, String> values) implements LangTable {
+
+            @Nullable @Override public String get(@Nonnull String key) { return values.get(key); }
+
+            @Override public boolean containsKey(@Nonnull String key) { return values.containsKey(key); }
+
+            @Nonnull @Override public List<String> getKeys() { return new ArrayList<>(values.keySet()); }
+
+            @Override
+            public long getRetainedBytes(){
+                long bytes = values.size() * 48L;
+                for(Map.Entry<String, String> entry : values.entrySet()) bytes += 2L * (entry.getKey().length() + entry.getValue().length()) + 80;
+                return bytes;
+            }
+        }
     }
 }
@@ -4,9 +4,12 @@ import dev.sergiferry.languages.LanguagesPlugin;
 import dev.sergiferry.languages.api.Language;
 import dev.sergiferry.languages.api.LanguagesAPI;
 import dev.sergiferry.languages.api.Translation;
+import dev.sergiferry.languages.api.TranslationMessage;
+import dev.sergiferry.languages.api.TranslationSnapshot;
 import dev.sergiferry.languages.api.events.plugin.PluginLanguageLoadEvent;
 import dev.sergiferry.languages.api.exceptions.EmptyResultException;
 import dev.sergiferry.languages.api.exceptions.NotExternalDatabaseException;
+import dev.sergiferry.languages.api.minecraft.MinecraftTranslation;
 import dev.sergiferry.languages.debug.DebugManager;
 import dev.sergiferry.languages.utils.StringUtils;
 import dev.sergiferry.spigot.SpigotPlugin;
@@ -45,6 +48,7 @@ public class LangAPICommand extends CommandInstance implements TabCompleter {
     private static String COMMAND_LABEL = "langapi";
     private static List<String> COMMAND_ACTIONS = Arrays.asList("reload", "set", "get", "info", "upload", "download");
     private static final String COMMAND_LANG_API = "command.lang_api.";
+    private static final String MINECRAFT_ACTION = "minecraft";
 
     public LangAPICommand(SpigotPlugin plugin) {
         super(plugin, COMMAND_LABEL);
@@ -61,6 +65,10 @@ public class LangAPICommand extends CommandInstance implements TabCompleter {
             sender.sendMessage(getLanguagesPluginManager().getTranslationString("player.no_permissions", displayLanguage));
             return;
         }
+        if(args.length == 1 && args[0].equalsIgnoreCase(MINECRAFT_ACTION) && !LanguagesAPI.getPluginNames().contains(MINECRAFT_ACTION)){
+            sendMinecraftStats(sender, displayLanguage);
+            return;
+        }
         if(args.length > 0){
             LanguagesAPI.PluginManager tempPluginManager = null;
             try{ tempPluginManager = LanguagesAPI.getPluginManager(args[0]); }
@@ -87,7 +95,7 @@ public class LangAPICommand extends CommandInstance implements TabCompleter {
                     Collection<Translation> translations = pluginManager.getTranslationsValues();
                     int totalTranslations = translations.size();
                     Map<Language, Integer> translatedLanguages = new HashMap<>();
-                    LanguagesAPI.getAvailableLanguages().forEach(language -> translatedLanguages.put(language, (int) translations.stream().filter(translation -> translation.isTranslatedIn(language)).count()));
+                    LanguagesAPI.getAvailableLanguages().forEach(language -> translatedLanguages.put(language, pluginManager.getSnapshot(language).size()));
                     sender.sendMessage(getStringTranslation("info.translated_languages", displayLanguage).formatted(pluginManager.getPlugin().getName()));
                     translatedLanguages.forEach((language, integer) -> sender.sendMessage("- " + language.getNameAndRegion() + ": "  + (integer < totalTranslations ? (integer > 0 ? "§e": "§c") : "§a") + integer + "§f/" + totalTranslations));
                     return;
@@ -158,12 +166,13 @@ public class LangAPICommand extends CommandInstance implements TabCompleter {
                     if(action.equalsIgnoreCase("reload")){ reloadLanguage(sender, displayLanguage, language, pluginManager); }
                     else if(action.equalsIgnoreCase("info")){
                         Collection<Translation> translations = pluginManager.getTranslationsValues();
+                        TranslationSnapshot snapshot = pluginManager.getSnapshot(language);
                         int totalTranslations = translations.size();
-                        int translatedTranslations = (int) translations.stream().filter(translation -> translation.isTranslatedIn(language)).count();
+                        int translatedTranslations = snapshot.size();
                         sender.sendMessage(getStringTranslation("info.language_translations", displayLanguage).formatted(language.getNameAndRegion(), pluginManager.getPlugin().getName()));
                         sender.sendMessage(getStringTranslation("info.translations_count", displayLanguage).formatted((translatedTranslations < totalTranslations ? (translatedTranslations > 0 ? "§e": "§c") : "§a") + translatedTranslations, totalTranslations));
                         if(translatedTranslations < totalTranslations && translatedTranslations > 0){
-                            List<String> missing = translations.stream().filter(translation -> !translation.isTranslatedIn(language)).map(translation -> translation.getSimpleKey()).collect(Collectors.toList());
+                            List<String> missing = translations.stream().filter(translation -> !snapshot.contains(translation)).map(translation -> translation.getSimpleKey()).collect(Collectors.toList());
                             sender.sendMessage(getStringTranslation("info.missing_translations", displayLanguage).formatted(StringUtils.getStringFromList(missing, StringUtils.StringListSeparator.COMMA)));
                         }
                     }
@@ -239,6 +248,7 @@ public class LangAPICommand extends CommandInstance implements TabCompleter {
                                 sender.sendMessage(finalResult);
                             }
                             else if(translationType.equals(Translation.Type.LIST)) for(String s : pluginManager.getListTranslation(code).get(language)) sender.sendMessage("- " + s);
+                            else if(translationType.equals(Translation.Type.MESSAGE_FORMAT)) sender.sendMessage(translationResult.toString());
                         }
                         else{
                             sender.sendMessage(getStringTranslation("error.not_specified.translation_key", displayLanguage));
@@ -277,6 +287,15 @@ public class LangAPICommand extends CommandInstance implements TabCompleter {
                                     pluginManager.setTranslation(language, simpleKey, Translation.Type.LIST, list);
                                     msg = "§r- " + StringUtils.getStringFromList(pluginManager.getTranslationList(simpleKey, language), StringUtils.StringListSeparator.LISTED);
                                 }
+                                else if(translation.getType().equals(Translation.Type.MESSAGE_FORMAT)){
+                                    TranslationMessage message;
+                                    try { message = TranslationMessage.of(msg); }
+                                    catch (IllegalArgumentException e){
+                                        sender.sendMessage(LanguagesPlugin.getInstance().getPrefix() + "§c" + e.getMessage());
+                                        return;
+                                    }
+                                    pluginManager.setTranslation(language, simpleKey, Translation.Type.MESSAGE_FORMAT, message);
+                                }
                                 else{
                                     sender.sendMessage(getStringTranslation("error.not_text", displayLanguage));
                                     return;
@@ -328,9 +347,25 @@ public class LangAPICommand extends CommandInstance implements TabCompleter {
                 playerSender.sendMessage("§7- §e/" + COMMAND_LABEL + " (" + arguments.get("plugin") + ") download [" + arguments.get("language") + "]");
             }
             playerSender.sendMessage("§7- §e/" + COMMAND_LABEL + " (" + arguments.get("plugin") + ") info [" + arguments.get("language") + "]");
+            playerSender.sendMessage("§7- §e/" + COMMAND_LABEL + " " + MINECRAFT_ACTION);
         }
     }
 
+    private void sendMinecraftStats(CommandSender sender, Language displayLanguage){
+        MinecraftTranslation.Stats stats = MinecraftTranslation.getStats();
+        Set<Language> pinned = MinecraftTranslation.getPinnedLanguages();
+        String budget = stats.memoryBudget() > 0 ? formatBytes(stats.memoryBudget()) : getStringTranslation("minecraft.no_budget", displayLanguage);
+        sender.sendMessage(getStringTranslation("minecraft.memory", displayLanguage).formatted(stats.languages().size(), formatBytes(stats.retainedBytes()), budget));
+        sender.sendMessage(getStringTranslation("minecraft.evictions", displayLanguage).formatted(stats.evictions(), stats.reloads()));
+        String pinnedTag = getStringTranslation("minecraft.pinned", displayLanguage);
+        stats.languages().forEach((language, bytes) -> sender.sendMessage("§7- §f" + language.getNameAndRegion() + "§7: §a" + formatBytes(bytes) + (pinned.contains(language) ? " §7" + pinnedTag : "")));
+    }
+
+    private static String formatBytes(long bytes){
+        if(bytes < 1024 * 1024) return (bytes / 1024) + " KB";
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
     private void reloadLanguage(CommandSender sender, Language displayLanguage, Language language, LanguagesAPI.PluginManager pluginManager){
         try {
             pluginManager.load(language);
@@ -388,7 +423,10 @@ public class LangAPICommand extends CommandInstance implements TabCompleter {
     public List<String> onTabComplete(@Nonnull CommandSender commandSender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
         if(!isCommand(label)) return null;
         List<String> suggested = new ArrayList<>();
-        if(args.length == 1) LanguagesAPI.getPluginNames().stream().filter(x-> x.toLowerCase().startsWith(args[0].toLowerCase())).forEach(x-> suggested.add(x));
+        if(args.length == 1){
+            LanguagesAPI.getPluginNames().stream().filter(x-> x.toLowerCase().startsWith(args[0].toLowerCase())).forEach(x-> suggested.add(x));
+            if(MINECRAFT_ACTION.startsWith(args[0].toLowerCase()) && !suggested.contains(MINECRAFT_ACTION)) suggested.add(MINECRAFT_ACTION);
+        }
         else if(args.length > 1){
             LanguagesAPI.PluginManager pluginManager = null;
             try{ pluginManager = LanguagesAPI.getPluginManager(args[0]); } catch (Exception e) { return suggested; }
@@ -2,6 +2,7 @@ package dev.sergiferry.languages.integration.integrations;
 
 import dev.sergiferry.languages.api.Language;
 import dev.sergiferry.languages.api.LanguagesAPI;
+import dev.sergiferry.languages.api.TranslationKey;
 import dev.sergiferry.languages.api.minecraft.MinecraftTranslation;
 import dev.sergiferry.languages.integration.IntegrationsManager;
 import dev.sergiferry.languages.integration.PluginIntegration;
@@ -12,8 +13,9 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Creado por SergiFerry el 20/08/2022
@@ -55,10 +57,14 @@ public class PlaceholderAPI extends PluginIntegration {
 
     public static class Extension extends PlaceholderExpansion implements Relational {
 
+        private static final int MAX_CACHED_REQUESTS = 4096;
+
         private Plugin plugin;
+        private final Map<String, Request> requests;
 
         public Extension(Plugin plugin) {
             this.plugin = plugin;
+            this.requests = new ConcurrentHashMap<>();
         }
 
         @Override
@@ -86,59 +92,89 @@ public class PlaceholderAPI extends PluginIntegration {
             return true;
         }
 
+        /**
+         * Parses the identifier once and keeps the resolved request, so scoreboards and holograms asking for the same
+         * placeholder every tick skip the parsing, and the plugin manager and translation lookups.
+         */
         public String onPlaceholderRequest(Player player, String identifier) {
+            Request request = requests.get(identifier);
+            if(request == null || !request.isValid()){
+                request = parse(identifier);
+                if(request.cacheable()){
+                    if(requests.size() >= MAX_CACHED_REQUESTS) requests.clear();
+                    requests.put(identifier, request);
+                }
+            }
+            return request.resolver().apply(player);
+        }
+
+        private Request parse(String identifier){
             identifier = identifier.toLowerCase();
-            if (identifier.equals("author")) { return getAuthor(); }
-            else if (identifier.equals("version")) { return getVersion(); }
+            if (identifier.equals("author")) { return Request.of(player -> getAuthor()); }
+            else if (identifier.equals("version")) { return Request.of(player -> getVersion()); }
             else if (identifier.startsWith("language_")){
-                Language language = LanguagesAPI.getLanguage(player);
-                if(identifier.endsWith("_code")) return language.getLocaleCode();
-                else if(identifier.endsWith("_name")) return language.getName();
-                else if(identifier.endsWith("_englishName")) return language.getEnglishName();
+                if(identifier.endsWith("_code")) return Request.of(player -> LanguagesAPI.getLanguage(player).getLocaleCode());
+                else if(identifier.endsWith("_name")) return Request.of(player -> LanguagesAPI.getLanguage(player).getName());
+                else if(identifier.endsWith("_englishname")) return Request.of(player -> LanguagesAPI.getLanguage(player).getEnglishName());
             }
             else if (identifier.startsWith("translation_")){
-                String messageID = identifier.replaceFirst("translation_", "");
-                if(!messageID.contains("_")) return "Error: Usage %languagesapi_translation_plugin_code[locale]%";
-                String[] codeArray = messageID.split("_", 2);
-                String pluginName = codeArray[0];
-                String code = codeArray[1];
-                if(!LanguagesAPI.getPluginNames().contains(pluginName.toLowerCase())) return "Error: " + pluginName + " is not using LanguagesAPI";
+                String messageID = identifier.substring("translation_".length());
+                int separator = messageID.indexOf('_');
+                if(separator == -1) return Request.of(player -> "Error: Usage %languagesapi_translation_plugin_code[locale]%");
+                String pluginName = messageID.substring(0, separator);
+                String code = messageID.substring(separator + 1);
+                if(!LanguagesAPI.getPluginNames().contains(pluginName)) return Request.uncached("Error: " + pluginName + " is not using LanguagesAPI");
                 LanguagesAPI.PluginManager pluginManager = LanguagesAPI.getPluginManager(pluginName);
-                Language language = LanguagesAPI.getServerLanguage();
-                if(player != null) language = LanguagesAPI.getLanguage(player);
-                if(code.contains("[") && code.contains("]")){
-                    Matcher matcher = Pattern.compile("[\\[](.*?)]").matcher(code);
-                    if(matcher.find()){
-                        String key = matcher.group(1);
-                        Language lang = Language.grabLanguage(key).orElse(null);
-                        if(lang != null){
-                            language = lang;
-                            code = code.replaceAll("\\[" + key + "]", "");
-                        }
-                    }
-                }
-                if(!pluginManager.hasTranslation(code)) return "Error: " + code + " translation doesn't exists";
-                return pluginManager.getTranslationString(code, language);
+                Language forced = grabForcedLanguage(code);
+                if(forced != null) code = removeForcedLanguage(code);
+                if(!pluginManager.hasTranslation(code)) return Request.uncached("Error: " + code + " translation doesn't exists");
+                TranslationKey<String> key;
+                try { key = pluginManager.key(code); }
+                catch (IllegalArgumentException e) { return Request.uncached("Error: " + code + " translation is not a text"); }
+                return new Request(pluginManager, player -> key.get(forced != null ? forced : getLanguage(player)), true);
             }
             else if (identifier.startsWith("minecraft_")){
-                String messageID = identifier.replaceFirst("minecraft_", "");
-                if(messageID.length() == 0) return "Error: Usage %languagesapi_minecraft_key[locale]%";
-                Language language = LanguagesAPI.getServerLanguage();
-                if(player != null) language = LanguagesAPI.getLanguage(player);
-                if(messageID.contains("[") && messageID.contains("]")){
-                    Matcher matcher = Pattern.compile("[\\[](.*?)]").matcher(messageID);
-                    if(matcher.find()){
-                        String key = matcher.group(1);
-                        Language lang = Language.grabLanguage(key).orElse(null);
-                        if(lang != null){
-                            language = lang;
-                            messageID = messageID.replaceAll("\\[" + key + "]", "");
-                        }
-                    }
-                }
-                return MinecraftTranslation.getTranslation(language, messageID);
+                String messageID = identifier.substring("minecraft_".length());
+                if(messageID.length() == 0) return Request.of(player -> "Error: Usage %languagesapi_minecraft_key[locale]%");
+                Language forced = grabForcedLanguage(messageID);
+                String code = forced != null ? removeForcedLanguage(messageID) : messageID;
+                return Request.of(player -> MinecraftTranslation.getTranslation(forced != null ? forced : getLanguage(player), code));
             }
-            return null;
+            return Request.of(player -> null);
+        }
+
+        private static Language getLanguage(Player player){ return player != null ? LanguagesAPI.getLanguage(player) : LanguagesAPI.getServerLanguage(); }
+
+        /**
+         * @return the language of the first {@code [locale]} of the code, or {@code null}
+         */
+        private static Language grabForcedLanguage(String code){
+            int open = code.indexOf('[');
+            if(open == -1) return null;
+            int close = code.indexOf(']', open + 1);
+            if(close == -1) return null;
+            return Language.grabLanguage(code.substring(open + 1, close)).orElse(null);
+        }
+
+        private static String removeForcedLanguage(String code){
+            int open = code.indexOf('[');
+            return code.replace(code.substring(open, code.indexOf(']', open + 1) + 1), "");
+        }
+
+        /**
+         * Parsed placeholder request.
+         *
+         * @param pluginManager Plugin manager of the translation, the request is parsed again if it is unhooked
+         * @param resolver Resolves the value for a player, that can be {@code null}
+         * @param cacheable If the request can be kept, errors that can change (a missing translation) are not
+         */
+        private record Request(LanguagesAPI.PluginManager pluginManager, Function<Player, String> resolver, boolean cacheable){
+
+            private static Request of(Function<Player, String> resolver){ return new Request(null, resolver, true); }
+
+            private static Request uncached(String error){ return new Request(null, player -> error, false); }
+
+            private boolean isValid() { return pluginManager == null || pluginManager.isHooked(); }
         }
 
         public String onPlaceholderRequest(Player playerOne, Player playerTwo, String identifier) {
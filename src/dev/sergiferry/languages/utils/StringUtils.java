@@ -3,7 +3,6 @@ package dev.sergiferry.languages.utils;
 import net.md_5.bungee.api.ChatColor;
 
 import java.util.ArrayList;
-import java.util.Formatter;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -30,17 +29,72 @@ public class StringUtils {
         return msg;
     }*/
 
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+
+    /**
+     * Translates {@code &#RRGGBB} hex colors and {@code &} legacy color codes in a single pass. The result is the same
+     * as replacing the hex colors with {@link ChatColor#of(String)} and then calling
+     * {@link ChatColor#translateAlternateColorCodes(char, String)}.
+     */
     public static String formatColor(String message){
         if(message == null) return null; if(message.isEmpty() || message.isBlank()) return message;
-        Matcher matcher = hexPattern.matcher(message);
-        while (matcher.find()) {
-            ChatColor hexColor = ChatColor.of(matcher.group().substring(1));
-            String before = message.substring(0, matcher.start());
-            String after = message.substring(matcher.end());
-            message = before + hexColor + after;
-            matcher = hexPattern.matcher(message);
+        int next = message.indexOf('&');
+        if(next == -1 || next == message.length() - 1) return message;
+        int length = message.length();
+        StringBuilder builder = new StringBuilder(length + 16);
+        builder.append(message, 0, next);
+        for(int i = next; i < length; i++){
+            char c = message.charAt(i);
+            if(c != '&' || i == length - 1){
+                builder.append(c);
+                continue;
+            }
+            char code = message.charAt(i + 1);
+            if(code == '#' && isHexColor(message, i + 2)){
+                builder.append(ChatColor.COLOR_CHAR).append('x');
+                for(int j = i + 2; j < i + 8; j++) builder.append(ChatColor.COLOR_CHAR).append(message.charAt(j));
+                i += 7;
+            }
+            else if(LEGACY_CODES.indexOf(code) != -1){
+                builder.append(ChatColor.COLOR_CHAR).append(Character.toLowerCase(code));
+                i++;
+            }
+            else builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isHexColor(String message, int start){
+        if(start + 6 > message.length()) return false;
+        for(int i = start; i < start + 6; i++){
+            char c = message.charAt(i);
+            if(!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f') && !(c >= 'A' && c <= 'F')) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks for a PlaceholderAPI token without a regex, so texts without any can skip the replacement. It follows the
+     * scan of PlaceholderAPI: a {@code %}, an identifier without spaces, an optional {@code _} with parameters that
+     * may have spaces, and a closing {@code %}. {@code %identifier%} and {@code %identifier_%} are also tokens.
+     */
+    public static boolean containsPlaceholderAPI(String message){
+        if(message == null) return false;
+        int length = message.length();
+        int start = message.indexOf('%');
+        while(start != -1 && start < length - 1){
+            boolean identified = false;
+            int i = start + 1;
+            for(; i < length; i++){
+                char c = message.charAt(i);
+                if(c == '%') return true;
+                if(c == ' ' && !identified) break;
+                if(c == '_') identified = true;
+            }
+            if(i == length) return false;
+            start = message.indexOf('%', i + 1);
         }
-        return ChatColor.translateAlternateColorCodes('&', message);
+        return false;
     }
 
     public static String getStringInside(String string, char c){
@@ -55,18 +109,20 @@ public class StringUtils {
     }
 
     public static String getStringFromList(List<String> list, StringListSeparator stringListSeparator, boolean firstDifferent){
-        String string = "";
+        StringBuilder builder = new StringBuilder();
         boolean first = true;
         for(String a : list){
-            string = string + (!first || !firstDifferent ? stringListSeparator.getFormat() : "") + a;
+            if(!first || !firstDifferent) builder.append(stringListSeparator.getFormat());
+            builder.append(a);
             first = false;
         }
-        return string;
+        return builder.toString();
     }
 
     public static List<String> replaceAll(List<String> list, String regex, String replacement){
-        List<String> finalList = new ArrayList<>();
-        for(String s : list){ finalList.add(s.replaceAll(regex, replacement)); }
+        List<String> finalList = new ArrayList<>(list.size());
+        Matcher matcher = Pattern.compile(regex).matcher("");
+        for(String s : list){ finalList.add(matcher.reset(s).replaceAll(replacement)); }
         return finalList;
     }
 